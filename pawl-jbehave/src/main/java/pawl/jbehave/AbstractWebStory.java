@@ -17,27 +17,41 @@
 package pawl.jbehave;
 
 import org.jbehave.core.configuration.Configuration;
-import org.jbehave.core.io.LoadFromClasspath;
+import org.jbehave.core.embedder.Embedder;
 import org.jbehave.core.junit.JUnitStory;
-import org.jbehave.core.reporters.StoryReporterBuilder;
+import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.InjectableStepsFactory;
 import org.jbehave.core.steps.InstanceStepsFactory;
 import org.jbehave.web.selenium.PerStoryWebDriverSteps;
 import org.jbehave.web.selenium.SeleniumConfiguration;
 import org.jbehave.web.selenium.SeleniumContext;
 import org.jbehave.web.selenium.WebDriverProvider;
-import org.jbehave.web.selenium.WebDriverScreenshotOnFailure;
 import org.jbehave.web.selenium.WebDriverSteps;
+import org.junit.Test;
+import pawl.jbehave.monitor.CommandReporter;
+import pawl.jbehave.monitor.DomTraceReporter;
+import pawl.jbehave.monitor.FlightReporter;
+import pawl.jbehave.monitor.HeapReporter;
+import pawl.jbehave.monitor.RunProgressReporter;
+import pawl.jbehave.monitor.StepTimingReporter;
+import pawl.jbehave.monitor.Summaries;
+import pawl.jbehave.monitor.TraceReporter;
+import pawl.jbehave.monitor.Tracer;
 import pawl.jbehave.step.BrowserSteps;
+import pawl.jbehave.step.DataSteps;
 import pawl.jbehave.step.MailSteps;
 import pawl.util.Resources;
 import pawl.webdriver.LocalizedWebDriverProvider;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.jbehave.core.reporters.Format.CONSOLE;
 import static org.jbehave.core.reporters.Format.TXT;
+import static org.junit.Assume.assumeTrue;
 
 /**
  * <code>AbstractWebStories</code> class provide capability to run all BDD
@@ -47,7 +61,7 @@ import static org.jbehave.core.reporters.Format.TXT;
  * @author Alex Voloshyn
  * @author Mike Dolinin
  * @author Serge Voloshyn
- * @version 1.5 2/26/14
+ * @version 1.23 10/19/26
  * @see pawl.jbehave.step.BrowserSteps#setupLink(String)
  * @see pawl.jbehave.step.BrowserSteps#openUrl()
  * @see pawl.jbehave.step.BrowserSteps#openContextPath(String)
@@ -89,11 +103,58 @@ public abstract class AbstractWebStory extends JUnitStory {
      */
     private final transient Pages pages = new Pages(getDriverProvider());
 
+    /**
+     * Loader of the stories from classpath and generated stories.
+     */
+    private final transient WebStoryLoader storyLoader =
+            new WebStoryLoader(this.getClass());
+
+    /**
+     * Splitter of the stories marked to run in parallel.
+     */
+    private final transient StorySplitter splitter =
+            new StorySplitter(storyLoader);
+
+    /**
+     * Retries of the failed stories.
+     */
+    private final transient StoryRetries retries =
+            new StoryRetries(splitter::originalPath);
+
+    /**
+     * Recorder of the inputs of the passed stories.
+     */
+    private final transient AffectedStoriesReporter affected =
+            new AffectedStoriesReporter(
+                    () -> stepsFactory().createCandidateSteps(),
+                    splitter::originalPath);
+
+    /**
+     * Additional story reporters registered by the embedding code.
+     */
+    private final transient List<StoryReporter> reporters =
+            new CopyOnWriteArrayList<>();
+
     /**
      * JBehave user story launcher.
      */
     public AbstractWebStory() {
         super();
+        reporters.add(splitter);
+        reporters.add(new ThrottlingSelector());
+        reporters.add(new StepDeadlines());
+        reporters.add(retries);
+        reporters.add(affected);
+        reporters.add(new StepTimingReporter());
+        if (Resources.base().dashboardPort() > 0) {
+            reporters.add(new RunProgressReporter(splitter::originalPath));
+        }
+        reporters.add(new CommandReporter());
+        reporters.add(new FlightReporter());
+        reporters.add(new TraceReporter());
+        reporters.add(new HeapReporter(driverProvider));
+        reporters.add(new DomTraceReporter(driverProvider));
+        storyLoader.addRewriter(new PreconditionSnapshots(storyLoader));
         configuredEmbedder().embedderControls()
                 .useThreads(Resources.base().useThreads())
                 .useStoryTimeoutInSecs(
@@ -112,25 +173,99 @@ public abstract class AbstractWebStory extends JUnitStory {
                 .useSeleniumContext(context)
                 .useWebDriverProvider(driverProvider)
                         // where to find the stories
-                .useStoryLoader(new LoadFromClasspath(this.getClass()))
-                        // CONSOLE and TXT reporting
+                .useStoryLoader(storyLoader)
+                        // CONSOLE and TXT reporting off the story threads,
+                        // other reporters on them
                 .useStoryReporterBuilder(
-                        new StoryReporterBuilder().withDefaultFormats()
-                                .withFormats(CONSOLE, TXT))
+                        new LiveStoryReporterBuilder(reporters)
+                                .withDefaultFormats()
+                                .withFormats(AsyncFormat.async(CONSOLE, TXT)))
                 .useStoryPathResolver(new UnderscoredCamelCaseITResolver());
     }
 
+    // Here we run the story resolved from the class name split to parts
+    // when it is marked to run in parallel, traced as a single run, with
+    // retries of the failed stories and inputs of the passed ones recorded,
+    // story not affected since its last green run is skipped when only
+    // affected stories are enabled
+    @Test
+    @Override
+    public void run() throws Throwable {
+        final Embedder embedder = configuredEmbedder();
+        final String storyPath = embedder.configuration()
+                .storyPathResolver().resolve(this.getClass());
+        if (Resources.base().storyAffectedOnly()) {
+            assumeTrue("Story is not affected since its last green run",
+                    AffectedStories.load().affected(storyPath));
+        }
+        Tracer.beginRun(this.getClass().getSimpleName());
+        affected.beginRun();
+        try {
+            retries.run(embedder, splitter.split(
+                    Collections.singletonList(storyPath)));
+        } finally {
+            affected.endRun();
+            Tracer.endRun();
+            Summaries.write();
+            AsyncStoryReporter.drain();
+            ScreenshotWriter.drain();
+            embedder.generateCrossReference();
+        }
+    }
+
     // Here we specify the steps classes
     @Override
     public final InjectableStepsFactory stepsFactory() {
         final Configuration configuration = configuration();
         final List<Object> steps = stepsInstances();
         steps.add(lifecycleSteps);
-        steps.add(new WebDriverScreenshotOnFailure(driverProvider,
+        steps.add(new ScreenshotOnFailure(driverProvider,
                 configuration.storyReporterBuilder()));
         return new InstanceStepsFactory(configuration(), steps);
     }
 
+    /**
+     * Register additional story reporters. Reporters are invoked on the story
+     * thread while the story runs and shared between all story threads, so
+     * they should be thread safe. Call
+     * {@link #configuredEmbedder()} after registration to apply them.
+     *
+     * @param storyReporters reporters to add
+     * @return this story
+     */
+    public final AbstractWebStory withReporters(
+            final StoryReporter... storyReporters) {
+        reporters.addAll(Arrays.asList(storyReporters));
+        return this;
+    }
+
+    /**
+     * Gets splitter of the stories marked to run in parallel.
+     *
+     * @return story splitter
+     */
+    public final StorySplitter getStorySplitter() {
+        return splitter;
+    }
+
+    /**
+     * Gets retries of the failed stories.
+     *
+     * @return story retries
+     */
+    public final StoryRetries getStoryRetries() {
+        return retries;
+    }
+
+    /**
+     * Gets recorder of the inputs of the passed stories.
+     *
+     * @return affected stories reporter
+     */
+    public final AffectedStoriesReporter getAffectedStories() {
+        return affected;
+    }
+
     /**
      * Gets current web driver provider.
      *
@@ -149,6 +284,7 @@ public abstract class AbstractWebStory extends JUnitStory {
         final List<Object> list = new LinkedList<>();
         list.add(new BrowserSteps(pages));
         list.add(new MailSteps());
+        list.add(new DataSteps());
         return list;
     }
 }
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import pawl.util.Resources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Inputs of the stories at their last green run kept in
+ * <code>story.affected.history</code> file between builds. Each story has
+ * hash of its text together with its nested given stories and hash of the
+ * step classes that declare the step patterns it used. A story is affected
+ * when it has no green run or one of the hashes changed, unaffected stories
+ * can be skipped with their cached result. Stories are selected when they
+ * run, so step classes compiled by the current build are hashed. Relative
+ * history path is resolved against the project directory, so all test JVMs
+ * of the project share one file. Step classes that cannot be loaded make
+ * their stories affected and are logged.
+ *
+ * @author Alex Voloshyn
+ * @version 1.5 10/19/26
+ */
+public final class AffectedStories {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(AffectedStories.class.getName());
+    /**
+     * Separator of the step class names.
+     */
+    private static final String SEPARATOR = ";";
+    /**
+     * Index of the step classes hash.
+     */
+    private static final int STEPS = 1;
+    /**
+     * Index of the green run time.
+     */
+    private static final int RECORDED = 2;
+    /**
+     * Index of the step class names.
+     */
+    private static final int CLASSES = 3;
+    /**
+     * Number of fields.
+     */
+    private static final int FIELDS = 4;
+    /**
+     * Hash of the class that is not found.
+     */
+    private static final String MISSING = "missing";
+    /**
+     * History file.
+     */
+    private final File file;
+    /**
+     * Class loader of the step classes.
+     */
+    private final ClassLoader classLoader;
+    /**
+     * Names of the step classes that are not found.
+     */
+    private final Set<String> unresolved = ConcurrentHashMap.newKeySet();
+    /**
+     * Inputs by story path.
+     */
+    private final Properties stories;
+
+    /**
+     * Create history stored in the file.
+     *
+     * @param historyFile history file
+     */
+    public AffectedStories(final File historyFile) {
+        this(historyFile, AffectedStories.class.getClassLoader());
+    }
+
+    /**
+     * Create history stored in the file with step classes loaded by the
+     * class loader.
+     *
+     * @param historyFile history file
+     * @param loader      class loader of the step classes
+     */
+    public AffectedStories(final File historyFile, final ClassLoader loader) {
+        file = historyFile;
+        stories = HistoryFile.load(file);
+        classLoader = loader;
+    }
+
+    /**
+     * Load history from <code>story.affected.history</code> file of the
+     * project in <code>basedir</code> system property, which is set by Maven
+     * test plugins, or in working directory.
+     *
+     * @return history
+     */
+    public static AffectedStories load() {
+        return new AffectedStories(historyFile(
+                new File(System.getProperty("basedir", "."))));
+    }
+
+    /**
+     * Resolve <code>story.affected.history</code> file against project
+     * directory.
+     *
+     * @param basedir project directory
+     * @return history file
+     */
+    public static File historyFile(final File basedir) {
+        final File history = new File(Resources.base().storyAffectedHistory());
+        if (history.isAbsolute()) {
+            return history;
+        }
+        return new File(basedir, history.getPath());
+    }
+
+    /**
+     * Check that story found on the classpath is affected.
+     *
+     * @param path story path
+     * @return true if story should run
+     */
+    public boolean affected(final String path) {
+        final String text = text(path);
+        if (text == null) {
+            return true;
+        }
+        return affected(path, text);
+    }
+
+    /**
+     * Check that story has no green run or its text or step classes changed
+     * since the last green run.
+     *
+     * @param path story path
+     * @param text story text
+     * @return true if story should run
+     */
+    public synchronized boolean affected(final String path,
+                                         final String text) {
+        final String[] fields = fields(path);
+        if (fields == null) {
+            return true;
+        }
+        return !fields[0].equals(storyHash(path, text))
+                || !fields[STEPS].equals(stepsHash(
+                Arrays.asList(fields[CLASSES].split(SEPARATOR))));
+    }
+
+    /**
+     * Record green run of the story found on the classpath.
+     *
+     * @param path        story path
+     * @param stepClasses names of the classes that declare used steps
+     */
+    public synchronized void record(final String path,
+                                    final Collection<String> stepClasses) {
+        final String text = text(path);
+        if (text == null) {
+            stories.remove(path);
+            return;
+        }
+        final Collection<String> classes = new TreeSet<>(stepClasses);
+        stories.setProperty(path, storyHash(path, text) + ","
+                + stepsHash(classes) + "," + System.currentTimeMillis()
+                + "," + String.join(SEPARATOR, classes));
+    }
+
+    /**
+     * Forget green run of the story, so it is affected until it passes.
+     *
+     * @param path story path
+     */
+    public synchronized void forget(final String path) {
+        stories.remove(path);
+    }
+
+    /**
+     * Write history to the file.
+     */
+    public synchronized void store() {
+        HistoryFile.store(file, stories,
+                "story=story hash,steps hash,green run time,step classes");
+    }
+
+    /**
+     * Write skipped stories with their cached result as CSV file.
+     *
+     * @param csv     report file
+     * @param skipped paths of the skipped stories
+     */
+    public synchronized void writeSkipped(final File csv,
+                                          final Collection<String> skipped) {
+        if (!HistoryFile.createParent(csv)) {
+            return;
+        }
+        try (PrintWriter out = new PrintWriter(new OutputStreamWriter(
+                new FileOutputStream(csv), StandardCharsets.UTF_8))) {
+            out.println("story,cached_result,green_run_at");
+            for (String path : skipped) {
+                String greenRun = "";
+                final String[] fields = fields(path);
+                if (fields != null) {
+                    greenRun = Instant.ofEpochMilli(
+                            Long.parseLong(fields[RECORDED])).toString();
+                }
+                out.println("\"" + path.replace("\"", "\"\"")
+                        + "\",passed," + greenRun);
+            }
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot write " + csv, e);
+        }
+    }
+
+    /**
+     * Gets fields of the story record.
+     *
+     * @param path story path
+     * @return fields or null if story has no valid green run
+     */
+    private String[] fields(final String path) {
+        final String value = stories.getProperty(path);
+        if (value == null) {
+            return null;
+        }
+        final String[] fields = value.split(",", FIELDS);
+        if (fields.length < FIELDS) {
+            return null;
+        }
+        return fields;
+    }
+
+    /**
+     * Read story text with the class loader of the step classes.
+     *
+     * @param path story path
+     * @return story text or null if story is not found
+     */
+    private String text(final String path) {
+        final byte[] text = RunHistory.read(classLoader, path);
+        if (text == null) {
+            return null;
+        }
+        return new String(text, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Calculate hash of the story text and texts of its nested given
+     * stories, like {@link PreconditionSnapshots} does for the snapshots.
+     *
+     * @param path story path
+     * @param text story text
+     * @return hexadecimal hash
+     */
+    private String storyHash(final String path, final String text) {
+        return PreconditionSnapshots.hash(PreconditionSnapshots.resolve(
+                path, text, (String given) -> {
+                    final String nested = text(given);
+                    if (nested == null) {
+                        return MISSING;
+                    }
+                    return nested;
+                }));
+    }
+
+    /**
+     * Calculate hash of the step classes bytecode.
+     *
+     * @param classNames names of the step classes
+     * @return hexadecimal hash
+     */
+    private String stepsHash(final Collection<String> classNames) {
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (String name : new TreeSet<>(classNames)) {
+            if (name.isEmpty()) {
+                continue;
+            }
+            byte[] bytes = RunHistory.read(classLoader,
+                    name.replace('.', '/') + ".class");
+            if (bytes == null) {
+                if (unresolved.add(name)) {
+                    LOG.warning("Step class " + name + " is not found, its"
+                            + " stories are treated as affected");
+                }
+                bytes = MISSING.getBytes(StandardCharsets.UTF_8);
+            }
+            final byte[] label =
+                    (name + ':').getBytes(StandardCharsets.UTF_8);
+            content.write(label, 0, label.length);
+            content.write(bytes, 0, bytes.length);
+            content.write('\n');
+        }
+        return PreconditionSnapshots.hash(content.toByteArray());
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import org.jbehave.core.model.OutcomesTable;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.reporters.NullStoryReporter;
+import org.jbehave.core.steps.CandidateSteps;
+import org.jbehave.core.steps.StepCandidate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Story reporter that collects step classes declaring the step patterns used
+ * by each story and records stories that passed in {@link AffectedStories}
+ * at the end of the run. Parts of the stories split to run in parallel are
+ * collected under the original story path.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class AffectedStoriesReporter extends NullStoryReporter {
+    /**
+     * Path of the story running in current thread.
+     */
+    private static final ThreadLocal<String> STORY = new ThreadLocal<>();
+    /**
+     * Previous step that is not an <code>And</code> step in current thread.
+     */
+    private static final ThreadLocal<String> PREVIOUS = new ThreadLocal<>();
+    /**
+     * Provider of the candidate steps.
+     */
+    private final Supplier<List<CandidateSteps>> steps;
+    /**
+     * Resolver of the original story path.
+     */
+    private final UnaryOperator<String> originalPath;
+    /**
+     * Step class names by story path.
+     */
+    private final Map<String, Set<String>> classes =
+            new ConcurrentHashMap<>();
+    /**
+     * Paths of the stories that failed in the run.
+     */
+    private final Set<String> failed = ConcurrentHashMap.newKeySet();
+    /**
+     * Step candidates, created on the first step.
+     */
+    private volatile List<StepCandidate> candidates;
+
+    /**
+     * Create reporter.
+     *
+     * @param candidateSteps provider of the candidate steps
+     * @param original       resolver of the original story path
+     */
+    public AffectedStoriesReporter(
+            final Supplier<List<CandidateSteps>> candidateSteps,
+            final UnaryOperator<String> original) {
+        super();
+        steps = candidateSteps;
+        originalPath = original;
+    }
+
+    /**
+     * Forget stories collected by the previous run.
+     */
+    public void beginRun() {
+        classes.clear();
+        failed.clear();
+    }
+
+    /**
+     * Record stories of the run that passed and forget the failed ones.
+     */
+    public void endRun() {
+        if (classes.isEmpty()) {
+            return;
+        }
+        final AffectedStories history = AffectedStories.load();
+        for (Map.Entry<String, Set<String>> story : classes.entrySet()) {
+            if (failed.contains(story.getKey())) {
+                history.forget(story.getKey());
+            } else {
+                history.record(story.getKey(), story.getValue());
+            }
+        }
+        history.store();
+        beginRun();
+    }
+
+    @Override
+    public void beforeStory(final Story story, final boolean givenStory) {
+        if (!givenStory) {
+            final String path = originalPath.apply(story.getPath());
+            classes.computeIfAbsent(path,
+                    (String key) -> ConcurrentHashMap.newKeySet());
+            STORY.set(path);
+            PREVIOUS.remove();
+        }
+    }
+
+    @Override
+    public void afterStory(final boolean givenStory) {
+        if (!givenStory) {
+            STORY.remove();
+            PREVIOUS.remove();
+        }
+    }
+
+    @Override
+    public void beforeStep(final String step) {
+        final String path = STORY.get();
+        if (path == null) {
+            return;
+        }
+        final String previous = PREVIOUS.get();
+        for (StepCandidate candidate : candidates()) {
+            if (candidate.matches(step, previous)) {
+                classes.get(path).add(candidate.getMethod()
+                        .getDeclaringClass().getName());
+                if (!candidate.isAndStep(step)) {
+                    PREVIOUS.set(step);
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void failed(final String step, final Throwable cause) {
+        fail();
+    }
+
+    @Override
+    public void failedOutcomes(final String step, final OutcomesTable table) {
+        fail();
+    }
+
+    @Override
+    public void pending(final String step) {
+        fail();
+    }
+
+    @Override
+    public void storyCancelled(final Story story,
+                               final StoryDuration storyDuration) {
+        failed.add(originalPath.apply(story.getPath()));
+    }
+
+    /**
+     * Mark story running in current thread as failed.
+     */
+    private void fail() {
+        final String path = STORY.get();
+        if (path != null) {
+            failed.add(path);
+        }
+    }
+
+    /**
+     * Gets step candidates of all candidate steps.
+     *
+     * @return step candidates
+     */
+    private List<StepCandidate> candidates() {
+        List<StepCandidate> list = candidates;
+        if (list == null) {
+            list = new ArrayList<>();
+            for (CandidateSteps candidateSteps : steps.get()) {
+                list.addAll(candidateSteps.listCandidates());
+            }
+            candidates = list;
+        }
+        return list;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import org.jbehave.core.reporters.FilePrintStreamFactory;
+import org.jbehave.core.reporters.Format;
+import org.jbehave.core.reporters.StoryReporter;
+import org.jbehave.core.reporters.StoryReporterBuilder;
+import pawl.util.Resources;
+
+/**
+ * Report format decorator for {@link StoryReporterBuilder} that writes
+ * reports of the decorated format with {@link AsyncStoryReporter}. Formats
+ * are decorated only when <code>reporter.async</code> is enabled.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class AsyncFormat extends Format {
+    /**
+     * Decorated format.
+     */
+    private final Format format;
+
+    /**
+     * Create decorator with the name of the decorated format.
+     *
+     * @param decorated decorated format
+     */
+    private AsyncFormat(final Format decorated) {
+        super(decorated.name());
+        format = decorated;
+    }
+
+    /**
+     * Decorate formats when asynchronous reporting is enabled.
+     *
+     * @param formats report formats
+     * @return decorated formats
+     */
+    public static Format[] async(final Format... formats) {
+        if (!Resources.base().reporterAsync()) {
+            return formats;
+        }
+        final Format[] decorated = new Format[formats.length];
+        for (int i = 0; i < formats.length; i++) {
+            decorated[i] = new AsyncFormat(formats[i]);
+        }
+        return decorated;
+    }
+
+    @Override
+    public StoryReporter createStoryReporter(
+            final FilePrintStreamFactory factory,
+            final StoryReporterBuilder builder) {
+        return AsyncStoryReporter.decorate(
+                format.createStoryReporter(factory, builder));
+    }
+}
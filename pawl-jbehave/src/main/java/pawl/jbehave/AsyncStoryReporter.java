@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import org.jbehave.core.reporters.StoryReporter;
+import pawl.util.Resources;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Story reporter decorator that pushes events into a bounded ring buffer
+ * drained by one writer thread, so step threads do not wait for console and
+ * report files. Events of a story come from one thread and the single writer
+ * keeps their order. Console is flushed at the end of each story. Step
+ * threads wait only when the writer is a whole buffer
+ * (<code>reporter.async.buffer</code>) behind. Pending events are counted
+ * without locking, only {@link #drain()} waits for the writer.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class AsyncStoryReporter implements InvocationHandler {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(AsyncStoryReporter.class.getName());
+    /**
+     * Events waiting for the writer.
+     */
+    private static final BlockingQueue<Runnable> BUFFER =
+            new ArrayBlockingQueue<>(Resources.base().reporterAsyncBuffer());
+    /**
+     * Monitor of the threads waiting until all events are written.
+     */
+    private static final Object DRAINED = new Object();
+    /**
+     * Number of events that are buffered or being written.
+     */
+    private static final AtomicLong PENDING = new AtomicLong();
+    /**
+     * Writer thread, started with the first reporter.
+     */
+    private static Thread writer;
+    /**
+     * Decorated reporter.
+     */
+    private final StoryReporter delegate;
+
+    /**
+     * Create decorator.
+     *
+     * @param reporter decorated reporter
+     */
+    private AsyncStoryReporter(final StoryReporter reporter) {
+        delegate = reporter;
+    }
+
+    /**
+     * Decorate reporter to be invoked by the writer thread.
+     *
+     * @param reporter decorated reporter
+     * @return asynchronous reporter
+     */
+    public static StoryReporter decorate(final StoryReporter reporter) {
+        start();
+        return (StoryReporter) Proxy.newProxyInstance(
+                StoryReporter.class.getClassLoader(),
+                new Class<?>[]{StoryReporter.class},
+                new AsyncStoryReporter(reporter));
+    }
+
+    /**
+     * Wait until all buffered events are written.
+     */
+    public static void drain() {
+        synchronized (DRAINED) {
+            while (PENDING.get() > 0) {
+                try {
+                    DRAINED.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method,
+                         final Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(this, args);
+        }
+        final boolean endOfStory = "afterStory".equals(method.getName())
+                && Boolean.FALSE.equals(args[0]);
+        PENDING.incrementAndGet();
+        try {
+            BUFFER.put(() -> write(method, args, endOfStory));
+        } catch (InterruptedException e) {
+            done();
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    /**
+     * Invoke decorated reporter in the writer thread.
+     *
+     * @param method     reporter method
+     * @param args       method arguments
+     * @param endOfStory flag that story is finished and console is flushed
+     */
+    private void write(final Method method, final Object[] args,
+                       final boolean endOfStory) {
+        try {
+            method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            LOG.log(Level.WARNING, "Reporter failed on " + method.getName(),
+                    e.getCause());
+        } catch (IllegalAccessException e) {
+            LOG.log(Level.WARNING, e.getMessage(), e);
+        }
+        if (endOfStory) {
+            System.out.flush();
+        }
+    }
+
+    /**
+     * Start writer thread and drain buffer when JVM stops.
+     */
+    private static synchronized void start() {
+        if (writer != null) {
+            return;
+        }
+        writer = new Thread(AsyncStoryReporter::drainBuffer,
+                "pawl-report-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(
+                AsyncStoryReporter::drain, "pawl-report-drain"));
+    }
+
+    /**
+     * Write buffered events until JVM stops.
+     */
+    private static void drainBuffer() {
+        while (true) {
+            final Runnable event;
+            try {
+                event = BUFFER.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                event.run();
+            } finally {
+                done();
+            }
+        }
+    }
+
+    /**
+     * Count written event and wake up draining threads when none is left.
+     */
+    private static void done() {
+        if (PENDING.decrementAndGet() == 0) {
+            synchronized (DRAINED) {
+                DRAINED.notifyAll();
+            }
+        }
+    }
+}
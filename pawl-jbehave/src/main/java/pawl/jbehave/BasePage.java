@@ -22,13 +22,14 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import pawl.jbehave.monitor.Phase;
 import pawl.util.Resources;
 
 /**
  * Web page object that execute all methods with waiting and polling.
  *
  * @author Mike Dolinin
- * @version 1.0 5/2/15
+ * @version 1.3 10/19/26
  */
 public class BasePage extends WebDriverPage {
     /**
@@ -48,8 +49,10 @@ public class BasePage extends WebDriverPage {
      */
     public LoadingElement find(final String identity) {
         By by = parseBy(identity);
-        WebElement element = getWait().until(
-                ExpectedConditions.visibilityOfElementLocated(by));
+        final WebElement element = new TimedWait(this,
+                Resources.base().explicitWait(), Phase.LOCATE)
+                .until(ExpectedConditions.visibilityOfElementLocated(by));
+        ScreenshotOnFailure.focus(element);
         return new LoadingElement(
                 element, getWait(), by);
     }
@@ -60,7 +63,7 @@ public class BasePage extends WebDriverPage {
      * @return webdriver wait
      */
     public WebDriverWait getWait() {
-        return new WebDriverWait(this, Resources.base().explicitWait());
+        return new TimedWait(this, Resources.base().explicitWait());
     }
 
     /**
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import pawl.util.Resources;
+
+import java.io.File;
+import java.util.Properties;
+
+/**
+ * Local history of story runs kept in <code>story.flakiness.history</code>
+ * file between builds. Each story has number of runs, number of runs that
+ * finally failed and number of runs that passed only on retry.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class FlakinessHistory {
+    /**
+     * Index of the failures counter.
+     */
+    private static final int FAILURES = 1;
+    /**
+     * Index of the flaky passes counter.
+     */
+    private static final int FLAKY = 2;
+    /**
+     * Number of counters.
+     */
+    private static final int COUNTERS = 3;
+    /**
+     * History file.
+     */
+    private final File file;
+    /**
+     * Counters by story path.
+     */
+    private final Properties stories;
+
+    /**
+     * Create history stored in the file.
+     *
+     * @param historyFile history file
+     */
+    public FlakinessHistory(final File historyFile) {
+        file = historyFile;
+        stories = HistoryFile.load(file);
+    }
+
+    /**
+     * Load history from <code>story.flakiness.history</code> file.
+     *
+     * @return history
+     */
+    public static FlakinessHistory load() {
+        return new FlakinessHistory(
+                new File(Resources.base().storyFlakinessHistory()));
+    }
+
+    /**
+     * Record finished run of the story.
+     *
+     * @param path    story path
+     * @param failed  flag that story finally failed
+     * @param flaky   flag that story passed only on retry
+     */
+    public synchronized void record(final String path, final boolean failed,
+                                    final boolean flaky) {
+        final long[] counters = counters(path);
+        counters[0]++;
+        if (failed) {
+            counters[FAILURES]++;
+        }
+        if (flaky) {
+            counters[FLAKY]++;
+        }
+        stories.setProperty(path, counters[0] + "," + counters[FAILURES] + ","
+                + counters[FLAKY]);
+    }
+
+    /**
+     * Gets number of runs that passed only on retry.
+     *
+     * @param path story path
+     * @return number of flaky runs
+     */
+    public synchronized long flaky(final String path) {
+        return counters(path)[FLAKY];
+    }
+
+    /**
+     * Gets number of recorded runs.
+     *
+     * @param path story path
+     * @return number of runs
+     */
+    public synchronized long runs(final String path) {
+        return counters(path)[0];
+    }
+
+    /**
+     * Write history to the file.
+     */
+    public synchronized void store() {
+        HistoryFile.store(file, stories,
+                "story=runs,failures,passed on retry");
+    }
+
+    /**
+     * Parse counters of the story.
+     *
+     * @param path story path
+     * @return runs, failures and flaky passes
+     */
+    private long[] counters(final String path) {
+        final long[] counters = new long[COUNTERS];
+        final String value = stories.getProperty(path);
+        if (value != null) {
+            final String[] parts = value.split(",");
+            for (int i = 0; i < COUNTERS && i < parts.length; i++) {
+                counters[i] = Long.parseLong(parts[i].trim());
+            }
+        }
+        return counters;
+    }
+}
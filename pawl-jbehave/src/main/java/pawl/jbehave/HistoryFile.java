@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Properties file that keeps story history between builds. Missing or
+ * unreadable file gives empty history, directories are created on store and
+ * failures are logged, so history never breaks the run.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+final class HistoryFile {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(HistoryFile.class.getName());
+
+    /**
+     * Utility class.
+     */
+    private HistoryFile() {
+    }
+
+    /**
+     * Read history from the file.
+     *
+     * @param file history file
+     * @return stories history, empty if file is missing or unreadable
+     */
+    static Properties load(final File file) {
+        final Properties stories = new Properties();
+        if (file.isFile()) {
+            try (InputStream in = new FileInputStream(file)) {
+                stories.load(in);
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "Cannot read " + file, e);
+            }
+        }
+        return stories;
+    }
+
+    /**
+     * Write history to the file.
+     *
+     * @param file    history file
+     * @param stories stories history
+     * @param comment description of the history values
+     */
+    static void store(final File file, final Properties stories,
+                      final String comment) {
+        if (!createParent(file)) {
+            return;
+        }
+        try (OutputStream out = new FileOutputStream(file)) {
+            stories.store(out, comment);
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot write " + file, e);
+        }
+    }
+
+    /**
+     * Create parent directory of the file.
+     *
+     * @param file file to write
+     * @return true if directory exists
+     */
+    static boolean createParent(final File file) {
+        final File parent = file.getAbsoluteFile().getParentFile();
+        if (!parent.exists() && !parent.mkdirs()) {
+            LOG.warning("Cannot create directory " + parent);
+            return false;
+        }
+        return true;
+    }
+}
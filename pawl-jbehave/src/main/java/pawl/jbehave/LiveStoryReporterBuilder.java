@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import org.jbehave.core.reporters.ConcurrentStoryReporter;
+import org.jbehave.core.reporters.DelegatingStoryReporter;
+import org.jbehave.core.reporters.StoryReporter;
+import org.jbehave.core.reporters.StoryReporterBuilder;
+
+import java.util.List;
+
+/**
+ * Story reporter builder that invokes instrumentation reporters on the story
+ * thread while the story runs. When stories run in several threads JBehave
+ * delays events of the built reporters and replays them after the story,
+ * so reporters that act on the running story, like the splitter that sets
+ * the context of a part, would observe nothing but the replay. Live
+ * reporters receive each event immediately, reporters of the formats are
+ * still delayed to keep their output ordered.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class LiveStoryReporterBuilder extends StoryReporterBuilder {
+    /**
+     * Reporters invoked on the story thread.
+     */
+    private final List<StoryReporter> live;
+
+    /**
+     * Create builder.
+     *
+     * @param liveReporters reporters invoked on the story thread, they are
+     *                      shared between all story threads and should be
+     *                      thread safe
+     */
+    public LiveStoryReporterBuilder(final List<StoryReporter> liveReporters) {
+        super();
+        live = liveReporters;
+    }
+
+    @Override
+    public StoryReporter build(final String storyPath) {
+        return new LiveStoryReporter(new DelegatingStoryReporter(live),
+                super.build(storyPath));
+    }
+
+    /**
+     * Reporter that invokes live reporters immediately and passes events to
+     * the reporter of the formats, which may delay them.
+     */
+    private static final class LiveStoryReporter
+            extends ConcurrentStoryReporter {
+        /**
+         * Reporter of the formats.
+         */
+        private final StoryReporter formats;
+
+        /**
+         * Create reporter.
+         *
+         * @param liveReporter    reporter invoked on the story thread
+         * @param formatsReporter reporter of the formats
+         */
+        LiveStoryReporter(final StoryReporter liveReporter,
+                          final StoryReporter formatsReporter) {
+            super(liveReporter, formatsReporter, false);
+            formats = formatsReporter;
+        }
+
+        @Override
+        public void invokeDelayed() {
+            if (formats instanceof ConcurrentStoryReporter) {
+                ((ConcurrentStoryReporter) formats).invokeDelayed();
+            }
+        }
+    }
+}
@@ -23,6 +23,9 @@ import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import pawl.jbehave.monitor.Phase;
+import pawl.jbehave.monitor.StepTimings;
+import pawl.jbehave.monitor.Tracer;
 
 import java.util.Arrays;
 import java.util.List;
@@ -32,7 +35,7 @@ import java.util.function.Consumer;
  * Web element object that wait for elements before interact with them.
  *
  * @author Mike Dolinin
- * @version 1.0 5/2/15
+ * @version 1.2 10/19/26
  */
 public class LoadingElement implements WebElement {
     /**
@@ -78,12 +81,18 @@ public class LoadingElement implements WebElement {
                 description, by);
         wait.withMessage(message)
                 .until((WebDriver driver) -> {
+                    StepTimings.start(Phase.ACTION);
+                    Tracer.begin(Tracer.RETRY, description);
                     try {
                         action.accept(element);
                         return true;
                     } catch (StaleElementReferenceException e) {
+                        Tracer.attribute("pawl.stale", Boolean.TRUE.toString());
                         element = driver.findElement(by);
                         return false;
+                    } finally {
+                        Tracer.end(Tracer.RETRY, false);
+                        StepTimings.stop();
                     }
                 });
     }
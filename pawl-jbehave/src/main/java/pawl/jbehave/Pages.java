@@ -17,6 +17,8 @@
 package pawl.jbehave;
 
 import org.jbehave.web.selenium.WebDriverProvider;
+import pawl.jbehave.monitor.Phase;
+import pawl.jbehave.monitor.StepTimings;
 import pawl.util.Resources;
 
 import java.util.logging.Level;
@@ -31,7 +33,7 @@ import java.util.logging.Logger;
  * requires interaction with more than one page.
  *
  * @author Alex Voloshyn
- * @version 1.1 5/2/15
+ * @version 1.3 10/19/26
  */
 public final class Pages {
     /**
@@ -63,13 +65,17 @@ public final class Pages {
     private void beforeAction() {
         final String wait = Resources.base().waitBeforeStep();
         if (wait != null) {
-            try {
-                final int seconds = (int) (Double.parseDouble(wait) * 1000);
-                if (seconds > 0) {
+            final int seconds = (int) (Double.parseDouble(wait) * 1000);
+            if (seconds > 0) {
+                StepTimings.start(Phase.PACING);
+                try {
                     Thread.sleep(seconds);
+                } catch (InterruptedException e) {
+                    LOG.log(Level.FINE, e.getMessage(), e.getCause());
+                    StepDeadlines.check(e);
+                } finally {
+                    StepTimings.stop();
                 }
-            } catch (InterruptedException e) {
-                LOG.log(Level.FINE, e.getMessage(), e.getCause());
             }
         }
     }
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.jbehave;
+
+import pawl.util.Resources;
+import pawl.webdriver.BrowserStates;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replace <code>GivenStories</code> preconditions with restore of the browser
+ * state captured after their first run. When precondition story runs first
+ * time, a scenario that saves browser state is appended to it. Later stories
+ * that declare the same precondition get a story that restores the saved
+ * state instead. The snapshot key contains hash of the precondition story
+ * text and of its nested given stories, so changed precondition is run
+ * again. Only one story saves the state of each precondition, other stories
+ * that are loaded before the state is saved replay the precondition.
+ * <p>
+ * Snapshot has cookies and web storage of the page open at the end of the
+ * precondition only, so preconditions that log in to several domains should
+ * not be snapshotted.
+ * <p>
+ * Enabled with <code>given.stories.snapshot</code> property. Given stories
+ * with anchors or parameters are always replayed.
+ *
+ * @author Alex Voloshyn
+ * @version 1.3 10/19/26
+ */
+public final class PreconditionSnapshots implements UnaryOperator<String> {
+    /**
+     * Given stories declaration pattern.
+     */
+    private static final Pattern GIVEN_STORIES = Pattern.compile(
+            "^([ \\t]*GivenStories:[ \\t]*)"
+                    + "((?:[^\\r\\n,]+,[ \\t]*\\r?\\n?[ \\t]*)*[^\\r\\n,]+)$",
+            Pattern.MULTILINE);
+    /**
+     * Story file extension.
+     */
+    private static final String EXTENSION = ".story";
+    /**
+     * Hexadecimal radix.
+     */
+    private static final int HEX = 16;
+    /**
+     * Mask of the unsigned byte.
+     */
+    private static final int BYTE = 0xff;
+    /**
+     * Story loader.
+     */
+    private final WebStoryLoader loader;
+    /**
+     * Keys of the snapshots that are saved by some story.
+     */
+    private final Set<String> saving = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Create preconditions rewriter.
+     *
+     * @param storyLoader loader to load preconditions and register stories
+     */
+    public PreconditionSnapshots(final WebStoryLoader storyLoader) {
+        loader = storyLoader;
+    }
+
+    @Override
+    public String apply(final String text) {
+        if (!Resources.base().snapshotGivenStories()) {
+            return text;
+        }
+        final Matcher matcher = GIVEN_STORIES.matcher(text);
+        final StringBuffer result = new StringBuffer();
+        while (matcher.find()) {
+            final StringBuilder paths = new StringBuilder();
+            for (String path : matcher.group(2).split(",")) {
+                if (paths.length() > 0) {
+                    paths.append(',');
+                }
+                paths.append(substitute(path.trim()));
+            }
+            matcher.appendReplacement(result, Matcher.quoteReplacement(
+                    matcher.group(1) + paths));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    /**
+     * Substitute precondition with story that saves or restores its state.
+     *
+     * @param path precondition story path
+     * @return path of the story to run
+     */
+    private String substitute(final String path) {
+        if (path.contains("#") || !path.endsWith(EXTENSION)) {
+            return path;
+        }
+        final String text = loader.loadOriginalText(path);
+        final String hash =
+                hash(resolve(path, text, loader::loadOriginalText));
+        final String key = "given:" + path + "@" + hash;
+        final String base =
+                path.substring(0, path.length() - EXTENSION.length());
+        if (BrowserStates.contains(key)) {
+            final String restore = base + "-restore-" + hash + EXTENSION;
+            loader.register(restore, "Scenario: Restore " + path + "\n"
+                    + "Given the browser state '" + key + "' is restored\n");
+            return restore;
+        }
+        if (!saving.add(key)) {
+            return path;
+        }
+        final String save = base + "-save-" + hash + EXTENSION;
+        loader.register(save, text + "\n\nScenario: Save " + path + "\n"
+                + "Then the browser state is saved as '" + key + "'\n");
+        return save;
+    }
+
+    /**
+     * Append texts of the nested given stories to the story text.
+     *
+     * @param path story path
+     * @param text story text
+     * @param load loader of the story text by its path
+     * @return story text followed by paths and texts of the given stories
+     */
+    static String resolve(final String path, final String text,
+                          final UnaryOperator<String> load) {
+        return resolve(path, text, load, new HashSet<>());
+    }
+
+    /**
+     * Append texts of the nested given stories to the story text.
+     *
+     * @param path     story path
+     * @param text     story text
+     * @param load     loader of the story text by its path
+     * @param visiting paths of the stories being resolved
+     * @return story text followed by paths and texts of the given stories
+     */
+    private static String resolve(final String path, final String text,
+                                  final UnaryOperator<String> load,
+                                  final Set<String> visiting) {
+        final StringBuilder resolved = new StringBuilder(text);
+        visiting.add(path);
+        final Matcher matcher = GIVEN_STORIES.matcher(text);
+        while (matcher.find()) {
+            for (String given : matcher.group(2).split(",")) {
+                final String nested = given.trim().replaceAll("[#?].*", "");
+                if (!nested.isEmpty() && !visiting.contains(nested)) {
+                    resolved.append('\n').append(nested).append('\n')
+                            .append(resolve(nested, load.apply(nested),
+                                    load, visiting));
+                }
+            }
+        }
+        visiting.remove(path);
+        return resolved.toString();
+    }
+
+    /**
+     * Calculate hash of the story text.
+     *
+     * @param text story text
+     * @return hexadecimal hash
+     */
+    static String hash(final String text) {
+        return hash(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Calculate hash of the content.
+     *
+     * @param content content bytes
+     * @return hexadecimal hash
+     */
+    static String hash(final byte[] content) {
+        try {
+            final byte[] digest =
+                    MessageDigest.getInstance("SHA-1").digest(content);
+            final StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(Integer.toString((b & BYTE) + BYTE + 1, HEX)
+                        .substring(1));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
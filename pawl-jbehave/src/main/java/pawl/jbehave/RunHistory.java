@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import pawl.util.Resources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Local history of story runs kept in <code>story.run.history</code> file
+ * between builds. Each story has outcome and duration of its last run and
+ * hash of the story text at its last green run. History is used to schedule
+ * stories that failed last time first, then stories changed since the last
+ * green run and then everything else.
+ *
+ * @author Alex Voloshyn
+ * @version 1.5 10/19/26
+ */
+public final class RunHistory {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(RunHistory.class.getName());
+    /**
+     * Outcome of the failed run.
+     */
+    private static final String FAILED = "failed";
+    /**
+     * Outcome of the passed run.
+     */
+    private static final String PASSED = "passed";
+    /**
+     * Size of the read buffer.
+     */
+    private static final int BUFFER = 4096;
+    /**
+     * History file.
+     */
+    private final File file;
+    /**
+     * Outcome and green hash by story path.
+     */
+    private final Properties stories;
+
+    /**
+     * Create history stored in the file.
+     *
+     * @param historyFile history file
+     */
+    public RunHistory(final File historyFile) {
+        file = historyFile;
+        stories = HistoryFile.load(file);
+    }
+
+    /**
+     * Load history from <code>story.run.history</code> file.
+     *
+     * @return history
+     */
+    public static RunHistory load() {
+        return new RunHistory(new File(Resources.base().storyRunHistory()));
+    }
+
+    /**
+     * Order stories: failed last time first, then changed since the last
+     * green run and then the rest. Order inside each group is kept.
+     *
+     * @param storyPaths story paths
+     * @return ordered story paths
+     */
+    public synchronized List<String> order(final List<String> storyPaths) {
+        final List<String> failed = new ArrayList<>();
+        final List<String> changed = new ArrayList<>();
+        final List<String> rest = new ArrayList<>();
+        for (String path : storyPaths) {
+            if (failedLastTime(path)) {
+                failed.add(path);
+            } else if (changed(path)) {
+                changed.add(path);
+            } else {
+                rest.add(path);
+            }
+        }
+        failed.addAll(changed);
+        failed.addAll(rest);
+        return failed;
+    }
+
+    /**
+     * Check that the last run of the story failed.
+     *
+     * @param path story path
+     * @return true if story failed last time
+     */
+    public synchronized boolean failedLastTime(final String path) {
+        return FAILED.equals(field(path, 0));
+    }
+
+    /**
+     * Check that story text changed since its last green run. Stories that
+     * never passed are treated as changed.
+     *
+     * @param path story path
+     * @return true if story changed
+     */
+    public synchronized boolean changed(final String path) {
+        final String green = field(path, 1);
+        return green == null || !green.equals(hash(path));
+    }
+
+    /**
+     * Gets duration of the last run of the story.
+     *
+     * @param path story path
+     * @return duration in milliseconds or 0 if it is unknown
+     */
+    public synchronized long duration(final String path) {
+        final String millis = field(path, 2);
+        if (millis == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(millis);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Record finished run of the story keeping known duration.
+     *
+     * @param path   story path
+     * @param failed flag that story failed
+     */
+    public synchronized void record(final String path, final boolean failed) {
+        record(path, failed, 0);
+    }
+
+    /**
+     * Record finished run of the story.
+     *
+     * @param path   story path
+     * @param failed flag that story failed
+     * @param millis duration of the run, 0 keeps the known duration
+     */
+    public synchronized void record(final String path, final boolean failed,
+                                    final long millis) {
+        long duration = millis;
+        if (duration <= 0) {
+            duration = duration(path);
+        }
+        String outcome;
+        if (failed) {
+            outcome = FAILED + ",";
+            final String green = field(path, 1);
+            if (green != null) {
+                outcome += green;
+            }
+        } else {
+            outcome = PASSED + ",";
+            final String hash = hash(path);
+            if (hash != null) {
+                outcome += hash;
+            }
+        }
+        stories.setProperty(path, outcome + "," + duration);
+    }
+
+    /**
+     * Write history to the file.
+     */
+    public synchronized void store() {
+        HistoryFile.store(file, stories,
+                "story=last outcome,hash at last green run,duration ms");
+    }
+
+    /**
+     * Gets field of the story record.
+     *
+     * @param path  story path
+     * @param index field index
+     * @return field value or null if it is absent or empty
+     */
+    private String field(final String path, final int index) {
+        final String value = stories.getProperty(path);
+        if (value == null) {
+            return null;
+        }
+        final String[] fields = value.split(",", -1);
+        if (index >= fields.length || fields[index].trim().isEmpty()) {
+            return null;
+        }
+        return fields[index].trim();
+    }
+
+    /**
+     * Calculate hash of the story text found on the classpath.
+     *
+     * @param path story path
+     * @return hexadecimal hash or null if story is not found
+     */
+    private static String hash(final String path) {
+        final byte[] text = read(path);
+        if (text == null) {
+            return null;
+        }
+        return PreconditionSnapshots.hash(
+                new String(text, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Read resource from the classpath.
+     *
+     * @param name resource name
+     * @return resource content or null if it is not found
+     */
+    static byte[] read(final String name) {
+        return read(RunHistory.class.getClassLoader(), name);
+    }
+
+    /**
+     * Read resource with class loader.
+     *
+     * @param loader class loader
+     * @param name   resource name
+     * @return resource content or null if it is not found
+     */
+    static byte[] read(final ClassLoader loader, final String name) {
+        try (InputStream in = loader.getResourceAsStream(name)) {
+            if (in == null) {
+                return null;
+            }
+            final ByteArrayOutputStream content = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[BUFFER];
+            int read = in.read(buffer);
+            while (read != -1) {
+                content.write(buffer, 0, read);
+                read = in.read(buffer);
+            }
+            return content.toByteArray();
+        } catch (IOException e) {
+            LOG.log(Level.FINE, "Cannot read " + name, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import org.jbehave.core.annotations.AfterScenario;
+import org.jbehave.core.annotations.BeforeScenario;
+import org.jbehave.core.failures.PendingStepFound;
+import org.jbehave.core.failures.UUIDExceptionWrapper;
+import org.jbehave.core.reporters.StoryReporterBuilder;
+import org.jbehave.web.selenium.DelegatingWebDriverProvider;
+import org.jbehave.web.selenium.WebDriverProvider;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import pawl.util.Resources;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Steps that capture screenshot of the failed scenario once and hand it to
+ * {@link ScreenshotWriter}. Screenshots are written where
+ * {@link org.jbehave.web.selenium.WebDriverScreenshotOnFailure} writes them,
+ * so reports link them the same way. <code>screenshot.mode</code> selects
+ * whole <code>page</code>, visible <code>viewport</code> or the last
+ * located <code>element</code> of the scenario.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class ScreenshotOnFailure {
+    /**
+     * Screenshot of the whole page.
+     */
+    public static final String PAGE = "page";
+    /**
+     * Screenshot of the last located element.
+     */
+    public static final String ELEMENT = "element";
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(ScreenshotOnFailure.class.getName());
+    /**
+     * Script that returns scroll offsets, viewport size and pixel ratio.
+     */
+    private static final String METRICS = "return [window.pageXOffset, "
+            + "window.pageYOffset, window.innerWidth, window.innerHeight, "
+            + "window.devicePixelRatio || 1];";
+    /**
+     * Index of the viewport height in metrics.
+     */
+    private static final int HEIGHT = 3;
+    /**
+     * Index of the pixel ratio in metrics.
+     */
+    private static final int RATIO = 4;
+    /**
+     * Last located element of the scenario in current thread.
+     */
+    private static final ThreadLocal<WebElement> FOCUS = new ThreadLocal<>();
+    /**
+     * Web driver provider.
+     */
+    private final WebDriverProvider driverProvider;
+    /**
+     * Builder with the reports directory.
+     */
+    private final StoryReporterBuilder reporterBuilder;
+
+    /**
+     * Create steps.
+     *
+     * @param provider web driver provider
+     * @param builder  builder with the reports directory
+     */
+    public ScreenshotOnFailure(final WebDriverProvider provider,
+                               final StoryReporterBuilder builder) {
+        driverProvider = provider;
+        reporterBuilder = builder;
+    }
+
+    /**
+     * Remember element located by the step, so that it can be captured when
+     * the scenario fails.
+     *
+     * @param element located element
+     */
+    public static void focus(final WebElement element) {
+        FOCUS.set(element);
+    }
+
+    /**
+     * Forget element located by the previous scenario.
+     */
+    @BeforeScenario
+    public void resetFocus() {
+        FOCUS.remove();
+    }
+
+    /**
+     * Capture screenshot of the failed scenario.
+     *
+     * @param failure scenario failure
+     */
+    @AfterScenario(uponOutcome = AfterScenario.Outcome.FAILURE)
+    public void afterScenarioFailure(final UUIDExceptionWrapper failure) {
+        if (failure instanceof PendingStepFound) {
+            return;
+        }
+        final File file = new File(reporterBuilder.outputDirectory(),
+                "screenshots/failed-scenario-" + failure.getUUID() + ".png");
+        try {
+            final WebDriver driver = driverProvider.get();
+            final byte[] image = ((TakesScreenshot) driver)
+                    .getScreenshotAs(OutputType.BYTES);
+            ScreenshotWriter.write(file, image, area(driver));
+        } catch (DelegatingWebDriverProvider.DelegateWebDriverNotFound
+                | WebDriverException | ClassCastException e) {
+            LOG.log(Level.WARNING, "Screenshot is not captured", e);
+        } finally {
+            FOCUS.remove();
+        }
+    }
+
+    /**
+     * Measure area of the screenshot to keep for the configured mode.
+     *
+     * @param driver web driver
+     * @return area of the decoded image or null to keep the whole image
+     */
+    private static Function<BufferedImage, Rectangle> area(
+            final WebDriver driver) {
+        final String mode = Resources.base().screenshotMode();
+        if (PAGE.equals(mode) || !(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+        final List<?> metrics = (List<?>) ((JavascriptExecutor) driver)
+                .executeScript(METRICS);
+        final Rectangle viewport = new Rectangle(
+                ((Number) metrics.get(0)).intValue(),
+                ((Number) metrics.get(1)).intValue(),
+                ((Number) metrics.get(2)).intValue(),
+                ((Number) metrics.get(HEIGHT)).intValue());
+        final double ratio = ((Number) metrics.get(RATIO)).doubleValue();
+        Rectangle target = viewport;
+        final WebElement element = FOCUS.get();
+        if (ELEMENT.equals(mode) && element != null) {
+            try {
+                final Point location = element.getLocation();
+                final Dimension size = element.getSize();
+                target = new Rectangle(location.getX(), location.getY(),
+                        size.getWidth(), size.getHeight());
+            } catch (WebDriverException e) {
+                LOG.log(Level.FINE, "Element is captured with viewport", e);
+            }
+        }
+        final Rectangle page = target;
+        return (BufferedImage image) -> {
+            final Rectangle area = new Rectangle(page);
+            if (image.getHeight() <= Math.round(viewport.height * ratio)
+                    + 1) {
+                area.translate(-viewport.x, -viewport.y);
+            }
+            return new Rectangle((int) Math.round(area.x * ratio),
+                    (int) Math.round(area.y * ratio),
+                    (int) Math.round(area.width * ratio),
+                    (int) Math.round(area.height * ratio));
+        };
+    }
+}
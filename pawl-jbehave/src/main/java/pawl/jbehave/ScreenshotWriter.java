@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import pawl.util.Resources;
+
+import javax.imageio.ImageIO;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Background writer of the failure screenshots. Captured images are
+ * cropped, encoded and hashed in a writer thread. An image identical to
+ * already written one is hard linked to it instead of being written again,
+ * and no more images are written when the run reaches
+ * <code>screenshot.max.mb</code>. When the writer falls behind by a whole
+ * queue the failing thread writes its screenshot itself.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class ScreenshotWriter {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(ScreenshotWriter.class.getName());
+    /**
+     * Image format of the screenshots.
+     */
+    private static final String PNG = "png";
+    /**
+     * Capacity of the screenshots queue.
+     */
+    private static final int QUEUE = 32;
+    /**
+     * Bytes in megabyte.
+     */
+    private static final long MEGABYTE = 1024L * 1024L;
+    /**
+     * Written screenshots by image hash.
+     */
+    private static final Map<String, Path> WRITTEN =
+            new ConcurrentHashMap<>();
+    /**
+     * Guard of the counters.
+     */
+    private static final Object LOCK = new Object();
+    /**
+     * Writer of the screenshots.
+     */
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+            1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE),
+            (Runnable task) -> {
+                final Thread thread = new Thread(task, "pawl-screenshots");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+    /**
+     * Number of screenshots that are queued or being written.
+     */
+    private static long pending;
+    /**
+     * Bytes written in the run.
+     */
+    private static long written;
+    /**
+     * Number of duplicate screenshots.
+     */
+    private static long duplicates;
+    /**
+     * Number of screenshots skipped by the size cap.
+     */
+    private static long skipped;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(
+                new Thread(ScreenshotWriter::shutdown, "pawl-screenshots"));
+    }
+
+    /**
+     * For non-instantiability.
+     */
+    private ScreenshotWriter() {
+        super();
+    }
+
+    /**
+     * Write screenshot in background.
+     *
+     * @param file  screenshot file
+     * @param image captured PNG image
+     * @param area  area of the decoded image to keep in device pixels or
+     *              null to keep the whole image
+     */
+    public static void write(final File file, final byte[] image,
+                             final Function<BufferedImage, Rectangle> area) {
+        synchronized (LOCK) {
+            pending++;
+        }
+        EXECUTOR.execute(() -> {
+            try {
+                store(file.toPath(), encode(image, area));
+            } finally {
+                synchronized (LOCK) {
+                    pending--;
+                    LOCK.notifyAll();
+                }
+            }
+        });
+    }
+
+    /**
+     * Wait until all queued screenshots are written.
+     */
+    public static void drain() {
+        synchronized (LOCK) {
+            while (pending > 0) {
+                try {
+                    LOCK.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Write queued screenshots and log summary when JVM stops.
+     */
+    private static void shutdown() {
+        drain();
+        synchronized (LOCK) {
+            if (duplicates + skipped > 0) {
+                LOG.info("Screenshots: " + WRITTEN.size() + " written, "
+                        + duplicates + " duplicates linked, " + skipped
+                        + " skipped over size cap");
+            }
+        }
+    }
+
+    /**
+     * Crop image to the area.
+     *
+     * @param image PNG image
+     * @param area  area to keep or null
+     * @return PNG image of the area
+     */
+    private static byte[] encode(
+            final byte[] image,
+            final Function<BufferedImage, Rectangle> area) {
+        if (area == null) {
+            return image;
+        }
+        try {
+            final BufferedImage full =
+                    ImageIO.read(new ByteArrayInputStream(image));
+            final Rectangle crop = area.apply(full).intersection(
+                    new Rectangle(full.getWidth(), full.getHeight()));
+            if (crop.isEmpty()) {
+                return image;
+            }
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(full.getSubimage(crop.x, crop.y, crop.width,
+                    crop.height), PNG, out);
+            return out.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            LOG.log(Level.FINE, "Screenshot is kept uncropped", e);
+            return image;
+        }
+    }
+
+    /**
+     * Write image or link it to identical image written before.
+     *
+     * @param path  screenshot file
+     * @param image PNG image
+     */
+    private static void store(final Path path, final byte[] image) {
+        final String hash = PreconditionSnapshots.hash(image);
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            final Path same = WRITTEN.get(hash);
+            if (same != null) {
+                Files.deleteIfExists(path);
+                Files.createLink(path, same);
+                synchronized (LOCK) {
+                    duplicates++;
+                }
+                return;
+            }
+            synchronized (LOCK) {
+                if (written + image.length
+                        > Resources.base().screenshotMaxMb() * MEGABYTE) {
+                    skipped++;
+                    return;
+                }
+                written += image.length;
+            }
+            Files.write(path, image);
+            WRITTEN.putIfAbsent(hash, path);
+        } catch (IOException | UnsupportedOperationException e) {
+            LOG.log(Level.WARNING, "Cannot write screenshot " + path, e);
+        }
+    }
+}
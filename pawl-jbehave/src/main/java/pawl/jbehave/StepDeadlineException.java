@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+/**
+ * Thrown when step runs longer than its deadline.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ * @see StepDeadlines
+ */
+public class StepDeadlineException extends RuntimeException {
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Create exception.
+     *
+     * @param message description of the step and its timings
+     * @param cause   failure caused by interrupting the step or null
+     */
+    public StepDeadlineException(final String message,
+                                 final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import org.jbehave.core.model.OutcomesTable;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.reporters.NullStoryReporter;
+import pawl.jbehave.monitor.StepStatistics;
+import pawl.jbehave.monitor.StepTimings;
+import pawl.util.Resources;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Story reporter that enforces step deadlines. Deadline of the step is
+ * taken from the first matching pattern of <code>step.deadlines</code>
+ * property, then from <code>stepDeadline</code> story meta and then from
+ * <code>step.deadline.seconds</code> property, zero means no deadline. A
+ * watchdog thread interrupts the step that runs past its deadline, so its
+ * waits stop polling and the step fails with {@link StepDeadlineException}
+ * describing elapsed timings. Deadline is forgotten when step ends in any
+ * way, including ignored and not performed steps, and when scenario or story
+ * ends, so it never interrupts later work of the thread.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class StepDeadlines extends NullStoryReporter {
+    /**
+     * Story meta with step deadline in seconds.
+     */
+    public static final String META = "stepDeadline";
+    /**
+     * Interval of deadline checks in milliseconds.
+     */
+    private static final long CHECK_INTERVAL = 200L;
+    /**
+     * Milliseconds in second.
+     */
+    private static final long MILLIS_IN_SECOND = 1000L;
+    /**
+     * Nanoseconds in millisecond.
+     */
+    private static final long NANOS_IN_MILLI = 1000000L;
+    /**
+     * Running steps with deadline by thread.
+     */
+    private static final Map<Thread, Deadline> RUNNING =
+            new ConcurrentHashMap<>();
+    /**
+     * Deadline of the step running in current thread.
+     */
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+    /**
+     * Flag that watchdog is started.
+     */
+    private static final AtomicBoolean STARTED = new AtomicBoolean();
+    /**
+     * Deadline from story meta in seconds of the story in current thread.
+     */
+    private final ThreadLocal<String> storyDeadline = new ThreadLocal<>();
+
+    /**
+     * Fail step of current thread if its deadline has expired.
+     *
+     * @param cause failure caused by interrupting the step or null
+     * @throws StepDeadlineException if deadline has expired
+     */
+    public static void check(final Throwable cause) {
+        final Deadline deadline = CURRENT.get();
+        if (deadline != null && deadline.expired) {
+            throw new StepDeadlineException("Step '" + deadline.step
+                    + "' exceeded deadline of " + deadline.millis
+                    + " ms, elapsed " + StepTimings.describe(), cause);
+        }
+    }
+
+    /**
+     * Find deadline of the step.
+     *
+     * @param step      step text
+     * @param storyMeta deadline from story meta or null
+     * @return deadline in milliseconds or zero
+     */
+    static long deadline(final String step, final String storyMeta) {
+        final String pattern = withoutKeyword(StepStatistics.pattern(step));
+        for (String entry : Resources.base().stepDeadlines().split(";")) {
+            final int separator = entry.lastIndexOf('=');
+            if (separator > 0 && pattern.endsWith(withoutKeyword(
+                    StepStatistics.pattern(entry.substring(0, separator))))) {
+                return seconds(entry.substring(separator + 1));
+            }
+        }
+        if (storyMeta != null && !storyMeta.trim().isEmpty()) {
+            return seconds(storyMeta);
+        }
+        return Resources.base().stepDeadline() * MILLIS_IN_SECOND;
+    }
+
+    /**
+     * Convert seconds string to milliseconds.
+     *
+     * @param value seconds
+     * @return milliseconds
+     */
+    private static long seconds(final String value) {
+        return Long.parseLong(value.trim()) * MILLIS_IN_SECOND;
+    }
+
+    /**
+     * Remove leading step keyword.
+     *
+     * @param pattern step pattern
+     * @return pattern without keyword
+     */
+    private static String withoutKeyword(final String pattern) {
+        return pattern.replaceFirst("^(Given|When|Then|And)\\s+", "");
+    }
+
+    /**
+     * Start watchdog thread once.
+     */
+    private static void startWatchdog() {
+        if (STARTED.compareAndSet(false, true)) {
+            final ScheduledExecutorService executor =
+                    Executors.newSingleThreadScheduledExecutor((Runnable r) -> {
+                        final Thread thread =
+                                new Thread(r, "pawl-step-deadlines");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.scheduleWithFixedDelay(StepDeadlines::expire,
+                    CHECK_INTERVAL, CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Interrupt steps that run past their deadlines.
+     */
+    private static void expire() {
+        final long now = System.nanoTime();
+        for (Map.Entry<Thread, Deadline> entry : RUNNING.entrySet()) {
+            final Deadline deadline = entry.getValue();
+            if (now - deadline.started > deadline.millis * NANOS_IN_MILLI
+                    && RUNNING.remove(entry.getKey(), deadline)) {
+                synchronized (deadline) {
+                    if (!deadline.finished) {
+                        deadline.expired = true;
+                        entry.getKey().interrupt();
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void beforeStory(final Story story, final boolean givenStory) {
+        if (!givenStory) {
+            storyDeadline.set(story.getMeta().getProperty(META));
+        }
+    }
+
+    @Override
+    public void afterStory(final boolean givenStory) {
+        finish();
+        if (!givenStory) {
+            storyDeadline.remove();
+        }
+    }
+
+    @Override
+    public void afterScenario() {
+        finish();
+    }
+
+    @Override
+    public void beforeStep(final String step) {
+        finish();
+        final long millis = deadline(step, storyDeadline.get());
+        if (millis <= 0) {
+            return;
+        }
+        startWatchdog();
+        final Deadline deadline = new Deadline(step, millis);
+        CURRENT.set(deadline);
+        RUNNING.put(Thread.currentThread(), deadline);
+    }
+
+    @Override
+    public void successful(final String step) {
+        finish();
+    }
+
+    @Override
+    public void failed(final String step, final Throwable cause) {
+        finish();
+    }
+
+    @Override
+    public void failedOutcomes(final String step, final OutcomesTable table) {
+        finish();
+    }
+
+    @Override
+    public void pending(final String step) {
+        finish();
+    }
+
+    @Override
+    public void ignorable(final String step) {
+        finish();
+    }
+
+    @Override
+    public void notPerformed(final String step) {
+        finish();
+    }
+
+    /**
+     * Stop watching step of current thread and clear interrupt caused by
+     * expired deadline.
+     */
+    private void finish() {
+        final Deadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return;
+        }
+        CURRENT.remove();
+        RUNNING.remove(Thread.currentThread(), deadline);
+        synchronized (deadline) {
+            deadline.finished = true;
+            if (deadline.expired) {
+                Thread.interrupted();
+            }
+        }
+    }
+
+    /**
+     * Deadline of the running step.
+     */
+    private static final class Deadline {
+        /**
+         * Step text.
+         */
+        private final String step;
+        /**
+         * Deadline in milliseconds.
+         */
+        private final long millis;
+        /**
+         * Step start time in nanoseconds.
+         */
+        private final long started = System.nanoTime();
+        /**
+         * Flag that deadline has expired.
+         */
+        private volatile boolean expired;
+        /**
+         * Flag that step has finished.
+         */
+        private boolean finished;
+
+        /**
+         * Create deadline.
+         *
+         * @param stepText       step text
+         * @param deadlineMillis deadline in milliseconds
+         */
+        private Deadline(final String stepText, final long deadlineMillis) {
+            step = stepText;
+            millis = deadlineMillis;
+        }
+    }
+}
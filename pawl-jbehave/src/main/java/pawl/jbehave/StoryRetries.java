@@ -0,0 +1,308 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import org.jbehave.core.embedder.Embedder;
+import org.jbehave.core.model.OutcomesTable;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.reporters.NullStoryReporter;
+import pawl.jbehave.monitor.Reports;
+import pawl.util.Resources;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs stories and immediately reruns the failed ones, up to
+ * <code>story.retries</code> times while the
+ * <code>story.retry.budget.seconds</code> wall time budget of the retries
+ * lasts. Retries reuse browsers only when <code>webdriver.reuse</code> is
+ * enabled. Stories that passed only on retry are listed in
+ * <code>pawl-retries.csv</code> in the JBehave reports directory, and every
+ * run of the original story, not of its parts, is recorded in
+ * {@link FlakinessHistory}. Worker JVMs of the coordinator save their runs
+ * as parts, which the coordinator records.
+ *
+ * @author Alex Voloshyn
+ * @version 1.2 10/19/26
+ */
+public final class StoryRetries extends NullStoryReporter {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(StoryRetries.class.getName());
+    /**
+     * Summary file name.
+     */
+    private static final String SUMMARY = "pawl-retries.csv";
+    /**
+     * Name of the worker parts with story runs.
+     */
+    private static final String RUNS = "pawl-retries-runs";
+    /**
+     * Quantity of the fields in story run line.
+     */
+    private static final int FIELDS = 3;
+    /**
+     * Flag that summary of the current run is created, guarded by class.
+     */
+    private static boolean created;
+    /**
+     * Paths of the stories failed in the current attempt.
+     */
+    private final Set<String> failed = ConcurrentHashMap.newKeySet();
+    /**
+     * Flag that story running in current thread has failed.
+     */
+    private final ThreadLocal<Boolean> storyFailed =
+            ThreadLocal.withInitial(() -> Boolean.FALSE);
+    /**
+     * Path of the story running in current thread.
+     */
+    private final ThreadLocal<String> storyPath = new ThreadLocal<>();
+    /**
+     * Maps story parts to the original story paths for history.
+     */
+    private final UnaryOperator<String> originalPath;
+
+    /**
+     * Create retries.
+     *
+     * @param original maps part paths to original story paths
+     */
+    public StoryRetries(final UnaryOperator<String> original) {
+        super();
+        originalPath = original;
+    }
+
+    /**
+     * Run stories and retry failed ones.
+     *
+     * @param embedder   configured embedder
+     * @param storyPaths paths of the stories
+     * @throws Embedder.RunningStoriesFailed if stories still fail
+     */
+    public void run(final Embedder embedder, final List<String> storyPaths) {
+        final int retries = Resources.base().storyRetries();
+        final List<String> flaky = new ArrayList<>();
+        Embedder.RunningStoriesFailed failure =
+                attempt(embedder, storyPaths);
+        Set<String> failing = drainFailed();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(
+                Resources.base().storyRetryBudget());
+        int attempt = 0;
+        while (failure != null && !failing.isEmpty() && attempt < retries
+                && System.nanoTime() < deadline) {
+            attempt++;
+            LOG.info("Retry " + attempt + " of " + failing);
+            failure = attempt(embedder, new ArrayList<>(failing));
+            final Set<String> still = drainFailed();
+            for (String path : failing) {
+                if (!still.contains(path)) {
+                    flaky.add(path);
+                }
+            }
+            failing = still;
+        }
+        record(storyPaths, failing, flaky);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Run stories once.
+     *
+     * @param embedder   configured embedder
+     * @param storyPaths paths of the stories
+     * @return failure or null if all stories passed
+     */
+    private Embedder.RunningStoriesFailed attempt(
+            final Embedder embedder, final List<String> storyPaths) {
+        try {
+            embedder.runStoriesAsPaths(storyPaths);
+            return null;
+        } catch (Embedder.RunningStoriesFailed e) {
+            return e;
+        }
+    }
+
+    /**
+     * Take failed stories of the attempt.
+     *
+     * @return sorted failed story paths
+     */
+    private Set<String> drainFailed() {
+        final Set<String> drained = new TreeSet<>(failed);
+        failed.removeAll(drained);
+        return drained;
+    }
+
+    /**
+     * Record run of each original story. Story finally failed when one of
+     * its parts failed and passed on retry when one of its parts passed on
+     * retry and none failed.
+     *
+     * @param storyPaths all run stories and parts
+     * @param failing    stories and parts that finally failed
+     * @param flaky      stories and parts that passed on retry
+     */
+    private void record(final Collection<String> storyPaths,
+                        final Collection<String> failing,
+                        final Collection<String> flaky) {
+        final Set<String> originals = new LinkedHashSet<>();
+        final Set<String> failedOriginals = new HashSet<>();
+        final Set<String> flakyOriginals = new HashSet<>();
+        for (String path : storyPaths) {
+            final String original = originalPath.apply(path);
+            originals.add(original);
+            if (failing.contains(path)) {
+                failedOriginals.add(original);
+            }
+            if (flaky.contains(path)) {
+                flakyOriginals.add(original);
+            }
+        }
+        final List<String> runs = new ArrayList<>();
+        for (String original : originals) {
+            final boolean failed = failedOriginals.contains(original);
+            runs.add(failed + "\t" + (!failed
+                    && flakyOriginals.contains(original)) + "\t" + original);
+        }
+        if (Reports.isWorker()) {
+            try (PrintWriter part = Reports.open(Reports.part(RUNS), true)) {
+                for (String run : runs) {
+                    part.println(run);
+                }
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "Cannot save retries", e);
+            }
+        } else {
+            write(runs);
+        }
+    }
+
+    /**
+     * Record story runs in history and list stories passed on retry.
+     *
+     * @param runs story runs as flag of final failure, flag of pass on
+     *             retry and story path separated by tabs
+     */
+    private static synchronized void write(final List<String> runs) {
+        final FlakinessHistory history = FlakinessHistory.load();
+        final List<String> flaky = new ArrayList<>();
+        for (String run : runs) {
+            final String[] fields = run.split("\t", FIELDS);
+            if (fields.length < FIELDS) {
+                continue;
+            }
+            final boolean passedOnRetry = Boolean.parseBoolean(fields[1]);
+            history.record(fields[2], Boolean.parseBoolean(fields[0]),
+                    passedOnRetry);
+            if (passedOnRetry) {
+                flaky.add(fields[2]);
+            }
+        }
+        history.store();
+        if (flaky.isEmpty()) {
+            return;
+        }
+        try (PrintWriter csv = Reports.open(SUMMARY, created)) {
+            if (!created) {
+                csv.println("story,result,passed_on_retry_total,runs_total");
+                created = true;
+            }
+            for (String path : flaky) {
+                csv.println(Reports.csv(path) + ",passed on retry,"
+                        + history.flaky(path) + ',' + history.runs(path));
+            }
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot write retries", e);
+        }
+    }
+
+    /**
+     * Record story runs saved by worker JVMs.
+     */
+    public static void mergeParts() {
+        Reports.mergeParts(RUNS, StoryRetries::write);
+    }
+
+    /**
+     * Delete story runs left by worker JVMs of a previous run.
+     */
+    public static void discardParts() {
+        Reports.mergeParts(RUNS, (List<String> runs) -> { });
+    }
+
+    /**
+     * Start new list of the stories passed on retry with the next run.
+     */
+    public static synchronized void reset() {
+        created = false;
+    }
+
+    @Override
+    public void beforeStory(final Story story, final boolean givenStory) {
+        if (!givenStory) {
+            storyPath.set(story.getPath());
+            storyFailed.set(Boolean.FALSE);
+        }
+    }
+
+    @Override
+    public void failed(final String step, final Throwable cause) {
+        storyFailed.set(Boolean.TRUE);
+    }
+
+    @Override
+    public void failedOutcomes(final String step, final OutcomesTable table) {
+        storyFailed.set(Boolean.TRUE);
+    }
+
+    @Override
+    public void storyCancelled(final Story story,
+                               final StoryDuration storyDuration) {
+        failed.add(story.getPath());
+    }
+
+    @Override
+    public void afterStory(final boolean givenStory) {
+        if (!givenStory && storyPath.get() != null) {
+            if (storyFailed.get()) {
+                failed.add(storyPath.get());
+            }
+            storyPath.remove();
+            storyFailed.remove();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.jbehave;
+
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.RegexStoryParser;
+import org.jbehave.core.reporters.NullStoryReporter;
+import pawl.util.Resources;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Split stories marked with <code>@parallel</code> meta into part stories
+ * that can run on different threads and drivers. Each scenario becomes
+ * a part, and each row of an inline <code>Examples:</code> table becomes
+ * a part of its own. Parts keep the story meta, narrative and given stories,
+ * so scenarios should not depend on each other.
+ * <p>
+ * Part paths are named <code>story-part-001.story</code> to keep the original
+ * order in the reports. Every part starts with a copy of the context that
+ * the splitting thread had at the moment of split.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class StorySplitter extends NullStoryReporter {
+    /**
+     * Meta property that enables splitting.
+     */
+    public static final String PARALLEL = "parallel";
+    /**
+     * Marker of the part in the story path.
+     */
+    private static final String PART = "-part-";
+    /**
+     * Story file extension.
+     */
+    private static final String EXTENSION = ".story";
+    /**
+     * Scenario start pattern.
+     */
+    private static final Pattern SCENARIO =
+            Pattern.compile("^[ \\t]*Scenario:", Pattern.MULTILINE);
+    /**
+     * Inline examples table pattern.
+     */
+    private static final Pattern EXAMPLES = Pattern.compile(
+            "^[ \\t]*Examples:[ \\t]*\\r?\\n((?:[ \\t]*\\|.*(?:\\r?\\n|$))+)",
+            Pattern.MULTILINE);
+    /**
+     * Table separator rows that are not data.
+     */
+    private static final String SEPARATOR = "|--";
+    /**
+     * Registered parts by their paths.
+     */
+    private final Map<String, Part> parts = new ConcurrentHashMap<>();
+    /**
+     * Loader of the stories that serves parts.
+     */
+    private final WebStoryLoader loader;
+
+    /**
+     * Create splitter that registers parts in the loader.
+     *
+     * @param storyLoader loader of the stories
+     */
+    public StorySplitter(final WebStoryLoader storyLoader) {
+        loader = storyLoader;
+    }
+
+    /**
+     * Replace stories marked as parallel with their parts.
+     *
+     * @param storyPaths original story paths
+     * @return story paths to run
+     */
+    public List<String> split(final List<String> storyPaths) {
+        final Map<String, String> context =
+                new HashMap<>(Resources.context());
+        final List<String> result = new ArrayList<>();
+        for (String path : storyPaths) {
+            final String text = loader.loadOriginalText(path);
+            final Story story = new RegexStoryParser().parseStory(text, path);
+            if (!story.getMeta().hasProperty(PARALLEL)) {
+                result.add(path);
+                continue;
+            }
+            int index = 0;
+            for (String partText : splitText(text)) {
+                final String partPath = partPath(path, index++);
+                parts.put(partPath, new Part(path, context));
+                loader.register(partPath, partText);
+                result.add(partPath);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets original story path of the part.
+     *
+     * @param path story or part path
+     * @return original story path
+     */
+    public String originalPath(final String path) {
+        final Part part = parts.get(path);
+        if (part == null) {
+            return path;
+        }
+        return part.original;
+    }
+
+    /**
+     * Forget registered parts and stories generated for them. Stories that
+     * are rewritten on load register their generated stories again.
+     */
+    public void clear() {
+        parts.clear();
+        loader.clear();
+    }
+
+    @Override
+    public void beforeStory(final Story story, final boolean givenStory) {
+        final Part part = parts.get(story.getPath());
+        if (!givenStory && part != null) {
+            Resources.useContext(part.context);
+        }
+    }
+
+    /**
+     * Split story text to scenarios and example rows.
+     *
+     * @param text story text
+     * @return texts of the parts
+     */
+    static List<String> splitText(final String text) {
+        final List<Integer> starts = new ArrayList<>();
+        final Matcher scenarios = SCENARIO.matcher(text);
+        while (scenarios.find()) {
+            starts.add(scenarios.start());
+        }
+        final List<String> result = new ArrayList<>();
+        if (starts.isEmpty()) {
+            result.add(text);
+            return result;
+        }
+        final String preamble = text.substring(0, starts.get(0));
+        starts.add(text.length());
+        for (int i = 0; i < starts.size() - 1; i++) {
+            final String scenario =
+                    text.substring(starts.get(i), starts.get(i + 1));
+            for (String row : splitExamples(scenario)) {
+                result.add(preamble + row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Split scenario with inline examples table to a scenario per row.
+     *
+     * @param scenario scenario text
+     * @return scenario texts
+     */
+    private static List<String> splitExamples(final String scenario) {
+        final List<String> result = new ArrayList<>();
+        final Matcher examples = EXAMPLES.matcher(scenario);
+        if (!examples.find()) {
+            result.add(scenario);
+            return result;
+        }
+        final String before = scenario.substring(0, examples.start(1));
+        final String after = scenario.substring(examples.end(1));
+        String header = null;
+        for (String line : examples.group(1).split("\\r?\\n")) {
+            final String row = line.trim();
+            if (row.isEmpty() || row.startsWith(SEPARATOR)) {
+                continue;
+            }
+            if (header == null) {
+                header = row;
+            } else {
+                result.add(before + header + "\n" + row + "\n" + after);
+            }
+        }
+        if (result.isEmpty()) {
+            result.add(scenario);
+        }
+        return result;
+    }
+
+    /**
+     * Create part path that keeps order of the parts.
+     *
+     * @param path  original story path
+     * @param index part index
+     * @return part path
+     */
+    private static String partPath(final String path, final int index) {
+        String base = path;
+        if (base.endsWith(EXTENSION)) {
+            base = base.substring(0, base.length() - EXTENSION.length());
+        }
+        return base + PART + String.format("%03d", index) + EXTENSION;
+    }
+
+    /**
+     * Part of the split story.
+     */
+    private static final class Part {
+        /**
+         * Original story path.
+         */
+        private final String original;
+        /**
+         * Context to start the part with.
+         */
+        private final Map<String, String> context;
+
+        /**
+         * Create part.
+         *
+         * @param originalPath original story path
+         * @param partContext  context to start the part with
+         */
+        private Part(final String originalPath,
+                     final Map<String, String> partContext) {
+            original = originalPath;
+            context = partContext;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import org.jbehave.core.model.Story;
+import org.jbehave.core.reporters.NullStoryReporter;
+import pawl.webdriver.ThrottlingProfile;
+
+/**
+ * Story reporter that selects throttling profile from <code>throttling</code>
+ * story meta before the story browser is started. Stories without the meta
+ * use <code>throttling.profile</code> property.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class ThrottlingSelector extends NullStoryReporter {
+    /**
+     * Story meta with profile name.
+     */
+    public static final String META = "throttling";
+
+    @Override
+    public void beforeStory(final Story story, final boolean givenStory) {
+        if (!givenStory) {
+            ThrottlingProfile.select(story.getMeta().getProperty(META));
+        }
+    }
+
+    @Override
+    public void afterStory(final boolean givenStory) {
+        if (!givenStory) {
+            ThrottlingProfile.select(null);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import com.google.common.base.Function;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import pawl.jbehave.monitor.EventKind;
+import pawl.jbehave.monitor.FlightEvents;
+import pawl.jbehave.monitor.Phase;
+import pawl.jbehave.monitor.StepTimings;
+import pawl.webdriver.ErrorSignals;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Webdriver wait that attributes polling time to a phase of the running
+ * step and emits flight recorder event with the wait outcome. Poll that
+ * does not meet the condition, either returning or failing to find the
+ * element, checks {@link ErrorSignals}, at most once a second, so the wait
+ * fails soon after the application shows fatal error. Wait interrupted by
+ * {@link StepDeadlines} fails with the step deadline.
+ *
+ * @author Alex Voloshyn
+ * @version 1.5 10/19/26
+ */
+public class TimedWait extends WebDriverWait {
+    /**
+     * Minimal interval between error signal checks in nanoseconds.
+     */
+    private static final long SIGNALS_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    /**
+     * Phase of the step that waits.
+     */
+    private final Phase phase;
+
+    /**
+     * Create wait attributed to the wait phase.
+     *
+     * @param driver           browser driver
+     * @param timeOutInSeconds timeout in seconds
+     */
+    public TimedWait(final WebDriver driver, final long timeOutInSeconds) {
+        this(driver, timeOutInSeconds, Phase.WAIT);
+    }
+
+    /**
+     * Create wait.
+     *
+     * @param driver           browser driver
+     * @param timeOutInSeconds timeout in seconds
+     * @param stepPhase        phase of the step that waits
+     */
+    public TimedWait(final WebDriver driver, final long timeOutInSeconds,
+                     final Phase stepPhase) {
+        super(driver, timeOutInSeconds);
+        phase = stepPhase;
+    }
+
+    @Override
+    public <V> V until(final Function<? super WebDriver, V> isTrue) {
+        final long[] lastCheck = {System.nanoTime() - SIGNALS_INTERVAL};
+        final Function<WebDriver, V> checked = (WebDriver driver) -> {
+            StepDeadlines.check(null);
+            final V value;
+            try {
+                value = isTrue.apply(driver);
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                checkSignals(driver, lastCheck);
+                throw e;
+            }
+            if (value == null || Boolean.FALSE.equals(value)) {
+                checkSignals(driver, lastCheck);
+            }
+            return value;
+        };
+        StepTimings.start(phase);
+        FlightEvents.begin(EventKind.WAIT, String.valueOf(isTrue));
+        String outcome = FlightEvents.FAILED;
+        try {
+            final V value = super.until(checked);
+            outcome = FlightEvents.OK;
+            return value;
+        } catch (TimeoutException e) {
+            outcome = FlightEvents.TIMEOUT;
+            throw e;
+        } catch (RuntimeException e) {
+            StepDeadlines.check(e);
+            throw e;
+        } finally {
+            FlightEvents.end(EventKind.WAIT, outcome);
+            StepTimings.stop();
+        }
+    }
+
+    /**
+     * Check error signals unless they were checked less than a second ago.
+     *
+     * @param driver    browser driver
+     * @param lastCheck time of the last check in nanoseconds
+     */
+    private static void checkSignals(final WebDriver driver,
+                                     final long[] lastCheck) {
+        final long now = System.nanoTime();
+        if (now - lastCheck[0] >= SIGNALS_INTERVAL) {
+            lastCheck[0] = now;
+            ErrorSignals.check(driver);
+        }
+    }
+}
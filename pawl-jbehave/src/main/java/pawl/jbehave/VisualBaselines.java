@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import pawl.jbehave.monitor.Reports;
+import pawl.util.ImageDiff;
+import pawl.util.Resources;
+import pawl.util.TiledImageComparison;
+import pawl.webdriver.LocalizedWebDriverProvider;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.logging.Logger;
+
+/**
+ * Baseline screenshots for visual regression steps. Baselines are stored
+ * as <code>visual.baselines/browser/locale/name.png</code>. Missing baselines
+ * and all baselines when <code>visual.update</code> is enabled are recorded
+ * from the actual screenshots. When screenshot differs more than
+ * <code>visual.tolerance.percent</code> the actual and diff images are
+ * written into <code>visual</code> folder of the reports directory.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class VisualBaselines {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(VisualBaselines.class.getName());
+    /**
+     * Folder of the failed comparisons in reports directory.
+     */
+    private static final String FOLDER = "visual";
+    /**
+     * Image format of the baselines.
+     */
+    private static final String PNG = "png";
+
+    /**
+     * For non-instantiability.
+     */
+    private VisualBaselines() {
+        super();
+    }
+
+    /**
+     * Compare screenshot with baseline. Baseline is recorded when missing
+     * or updated.
+     *
+     * @param name   baseline name
+     * @param actual actual screenshot
+     * @return comparison result or null if baseline was recorded
+     * @throws IOException if images cannot be read or written
+     */
+    public static ImageDiff compare(final String name,
+                                    final BufferedImage actual)
+            throws IOException {
+        final String path = relative(name);
+        final File baseline = new File(Resources.base().visualBaselines(),
+                path + "." + PNG);
+        if (Resources.base().visualUpdate() || !baseline.isFile()) {
+            write(actual, baseline);
+            LOG.warning("Visual baseline recorded: " + baseline);
+            return null;
+        }
+        final ImageDiff diff = new TiledImageComparison(
+                Resources.base().visualTileSize(),
+                Resources.base().visualPixelThreshold())
+                .compare(ImageIO.read(baseline), actual);
+        LOG.fine("Visual baseline '" + name + "': " + diff);
+        if (diff.getDifferingPercent()
+                > Resources.base().visualTolerancePercent()) {
+            final File failed = new File(Reports.directory(), FOLDER);
+            write(actual, new File(failed, path + "-actual." + PNG));
+            write(diff.getImage(), new File(failed, path + "-diff." + PNG));
+        }
+        return diff;
+    }
+
+    /**
+     * Build path of the baseline for current browser and locale.
+     *
+     * @param name baseline name
+     * @return relative path without extension
+     */
+    private static String relative(final String name) {
+        return LocalizedWebDriverProvider.browser() + File.separator
+                + LocalizedWebDriverProvider.locale() + File.separator
+                + name.replaceAll("[^\\w-]", "_");
+    }
+
+    /**
+     * Write image as PNG creating missing folders.
+     *
+     * @param image image to write
+     * @param file  target file
+     * @throws IOException if image cannot be written
+     */
+    private static void write(final BufferedImage image, final File file)
+            throws IOException {
+        final File parent = file.getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Cannot create " + parent);
+        }
+        ImageIO.write(image, PNG, file);
+    }
+}
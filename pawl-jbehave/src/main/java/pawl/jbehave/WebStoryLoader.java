@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.jbehave;
+
+import org.jbehave.core.io.LoadFromClasspath;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
+
+/**
+ * Story loader that serves generated stories registered by path in addition
+ * to stories from the classpath, and lets rewriters adjust story text
+ * before it is parsed.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class WebStoryLoader extends LoadFromClasspath {
+    /**
+     * Generated stories by their paths.
+     */
+    private final Map<String, String> generated = new ConcurrentHashMap<>();
+    /**
+     * Story text rewriters.
+     */
+    private final List<UnaryOperator<String>> rewriters =
+            new CopyOnWriteArrayList<>();
+
+    /**
+     * Create loader that loads stories with class loader of the class.
+     *
+     * @param loadFromClass class to load stories with
+     */
+    public WebStoryLoader(final Class<?> loadFromClass) {
+        super(loadFromClass);
+    }
+
+    /**
+     * Register generated story.
+     *
+     * @param storyPath story path
+     * @param storyText story text
+     */
+    public void register(final String storyPath, final String storyText) {
+        generated.put(storyPath, storyText);
+    }
+
+    /**
+     * Forget all generated stories.
+     */
+    public void clear() {
+        generated.clear();
+    }
+
+    /**
+     * Add story text rewriter.
+     *
+     * @param rewriter to add
+     */
+    public void addRewriter(final UnaryOperator<String> rewriter) {
+        rewriters.add(rewriter);
+    }
+
+    /**
+     * Load story text without rewriting.
+     *
+     * @param storyPath story path
+     * @return story text
+     */
+    public String loadOriginalText(final String storyPath) {
+        final String text = generated.get(storyPath);
+        if (text == null) {
+            return super.loadStoryAsText(storyPath);
+        }
+        return text;
+    }
+
+    @Override
+    public String loadStoryAsText(final String storyPath) {
+        String text = loadOriginalText(storyPath);
+        for (UnaryOperator<String> rewriter : rewriters) {
+            text = rewriter.apply(text);
+        }
+        return text;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.embedder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * JUnit XML report of the story outcomes, so that CI servers show stories
+ * run by the embedder the same way as stories run by failsafe.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class JUnitReport {
+    /**
+     * Report file name.
+     */
+    public static final String NAME = "TEST-pawl-stories.xml";
+    /**
+     * Milliseconds in second.
+     */
+    private static final double SECOND = 1000.0;
+
+    /**
+     * For non-instantiability.
+     */
+    private JUnitReport() {
+        super();
+    }
+
+    /**
+     * Write outcomes as JUnit XML test suite.
+     *
+     * @param file     report file
+     * @param outcomes story outcomes
+     * @throws IOException if report cannot be written
+     */
+    public static void write(final File file,
+                             final List<StoryOutcome> outcomes)
+            throws IOException {
+        final File parent = file.getAbsoluteFile().getParentFile();
+        if (!parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Cannot create directory " + parent);
+        }
+        int failures = 0;
+        long duration = 0;
+        for (StoryOutcome outcome : outcomes) {
+            if (!outcome.isPassed()) {
+                failures++;
+            }
+            duration += outcome.getDuration();
+        }
+        try (PrintWriter xml = new PrintWriter(new OutputStreamWriter(
+                new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            xml.println("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+            xml.println("<testsuite name=\"pawl.stories\" tests=\""
+                    + outcomes.size() + "\" failures=\"" + failures
+                    + "\" errors=\"0\" skipped=\"0\" time=\""
+                    + seconds(duration) + "\">");
+            for (StoryOutcome outcome : outcomes) {
+                final String path = outcome.getPath();
+                final int slash = path.lastIndexOf('/');
+                String suite = "stories";
+                if (slash > 0) {
+                    suite = path.substring(0, slash).replace('/', '.');
+                }
+                xml.print("  <testcase classname=\"" + escape(suite)
+                        + "\" name=\"" + escape(path.substring(slash + 1))
+                        + "\" time=\"" + seconds(outcome.getDuration())
+                        + "\"");
+                if (outcome.isPassed()) {
+                    xml.println("/>");
+                } else {
+                    xml.println(">");
+                    xml.println("    <failure message=\""
+                            + escape(outcome.getFailure()) + "\"/>");
+                    xml.println("  </testcase>");
+                }
+            }
+            xml.println("</testsuite>");
+        }
+    }
+
+    /**
+     * Format duration in seconds.
+     *
+     * @param millis duration in milliseconds
+     * @return seconds
+     */
+    private static String seconds(final long millis) {
+        return String.format(Locale.ENGLISH, "%.3f", millis / SECOND);
+    }
+
+    /**
+     * Escape XML attribute value.
+     *
+     * @param value raw value
+     * @return escaped value
+     */
+    private static String escape(final String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;")
+                .replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
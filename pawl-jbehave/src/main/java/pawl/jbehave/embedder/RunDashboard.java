@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.embedder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import pawl.jbehave.monitor.RunProgress;
+import pawl.util.Resources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Local HTTP dashboard of the running stories. When
+ * <code>dashboard.port</code> is set the dashboard serves a page at
+ * <code>http://localhost:port/</code> and {@link RunProgress} snapshot at
+ * <code>/status.json</code> while stories run. Dashboard is bound to the
+ * loopback address only.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class RunDashboard {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(RunDashboard.class.getName());
+    /**
+     * Page of the dashboard.
+     */
+    private static final String PAGE = "dashboard.html";
+    /**
+     * Path of the progress snapshot.
+     */
+    private static final String STATUS = "/status.json";
+    /**
+     * Size of the read buffer.
+     */
+    private static final int BUFFER = 4096;
+    /**
+     * Response without body.
+     */
+    private static final int NO_BODY = -1;
+    /**
+     * End of the stream.
+     */
+    private static final int EOF = -1;
+    /**
+     * HTTP server or null when dashboard is disabled.
+     */
+    private final HttpServer server;
+    /**
+     * Handler thread.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Create dashboard.
+     *
+     * @param httpServer HTTP server or null when dashboard is disabled
+     * @param handler    handler thread or null when dashboard is disabled
+     */
+    private RunDashboard(final HttpServer httpServer,
+                         final ExecutorService handler) {
+        server = httpServer;
+        executor = handler;
+    }
+
+    /**
+     * Start dashboard on <code>dashboard.port</code>. Dashboard that cannot
+     * be started is logged and disabled, so stories run anyway.
+     *
+     * @return dashboard to stop when run is finished
+     */
+    public static RunDashboard start() {
+        final int port = Resources.base().dashboardPort();
+        if (port <= 0) {
+            return new RunDashboard(null, null);
+        }
+        final ExecutorService handler = Executors.newSingleThreadExecutor(
+                (Runnable runnable) -> {
+                    final Thread thread =
+                            new Thread(runnable, "pawl-dashboard");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            final byte[] page = page();
+            final HttpServer httpServer = HttpServer.create(
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                            port), 0);
+            httpServer.createContext("/", (HttpExchange exchange) ->
+                    respond(exchange, page));
+            httpServer.setExecutor(handler);
+            httpServer.start();
+            LOG.info("Run dashboard: http://localhost:" + port + "/");
+            return new RunDashboard(httpServer, handler);
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Run dashboard cannot be started on port "
+                    + port, e);
+            handler.shutdown();
+            return new RunDashboard(null, null);
+        }
+    }
+
+    /**
+     * Stop dashboard.
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Respond with the page or progress snapshot.
+     *
+     * @param exchange HTTP exchange
+     * @param page     dashboard page
+     * @throws IOException if response cannot be written
+     */
+    private static void respond(final HttpExchange exchange,
+                                final byte[] page) throws IOException {
+        try {
+            final String path = exchange.getRequestURI().getPath();
+            final byte[] body;
+            if (STATUS.equals(path)) {
+                body = RunProgress.json().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type",
+                        "application/json; charset=utf-8");
+            } else if ("/".equals(path) || ("/" + PAGE).equals(path)) {
+                body = page;
+                exchange.getResponseHeaders().set("Content-Type",
+                        "text/html; charset=utf-8");
+            } else {
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_NOT_FOUND,
+                        NO_BODY);
+                return;
+            }
+            exchange.getResponseHeaders().set("Cache-Control", "no-store");
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK,
+                    body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Read dashboard page shipped with pawl.
+     *
+     * @return page content
+     * @throws IOException if page cannot be read
+     */
+    private static byte[] page() throws IOException {
+        try (InputStream in = RunDashboard.class.getResourceAsStream(PAGE)) {
+            if (in == null) {
+                throw new IOException(PAGE + " is not found");
+            }
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[BUFFER];
+            int read = in.read(buffer);
+            while (read != EOF) {
+                out.write(buffer, 0, read);
+                read = in.read(buffer);
+            }
+            return out.toByteArray();
+        }
+    }
+}
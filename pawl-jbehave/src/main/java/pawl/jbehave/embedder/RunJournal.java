@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.embedder;
+
+import pawl.util.Resources;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Checkpoint journal of the batch run. Outcome of each finished story is
+ * appended to the <code>story.checkpoint.journal</code> file and forced to
+ * disk, so a run resumed after a crash with <code>story.resume</code> skips
+ * stories already recorded as finished and reports their journaled outcomes.
+ * A run that is not resumed starts a new journal.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class RunJournal implements Closeable {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(RunJournal.class.getName());
+    /**
+     * Outcomes of the stories finished by previous attempts of the run.
+     */
+    private final Map<String, StoryOutcome> finished = new LinkedHashMap<>();
+    /**
+     * Journal output.
+     */
+    private final FileOutputStream out;
+
+    /**
+     * Open journal.
+     *
+     * @param file   journal file
+     * @param resume flag that finished stories should be read from journal
+     * @throws IOException if journal cannot be opened
+     */
+    public RunJournal(final File file, final boolean resume)
+            throws IOException {
+        if (resume && file.isFile()) {
+            read(file);
+        }
+        final File parent = file.getAbsoluteFile().getParentFile();
+        if (!parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Cannot create directory " + parent);
+        }
+        out = new FileOutputStream(file, resume);
+        if (resume && !endsWithNewLine(file)) {
+            out.write('\n');
+        }
+    }
+
+    /**
+     * Open journal from <code>story.checkpoint.journal</code> file.
+     *
+     * @return journal
+     * @throws IOException if journal cannot be opened
+     */
+    public static RunJournal open() throws IOException {
+        return new RunJournal(
+                new File(Resources.base().storyCheckpointJournal()),
+                Resources.base().storyResume());
+    }
+
+    /**
+     * Gets outcomes of the stories finished by previous attempts of the run.
+     *
+     * @return journaled outcomes
+     */
+    public List<StoryOutcome> finished() {
+        return new ArrayList<>(finished.values());
+    }
+
+    /**
+     * Gets stories that are not finished yet.
+     *
+     * @param storyPaths paths of stories to run
+     * @return paths of the stories without journaled outcome
+     */
+    public List<String> remaining(final List<String> storyPaths) {
+        final List<String> remaining = new ArrayList<>();
+        for (String path : storyPaths) {
+            if (!finished.containsKey(path)) {
+                remaining.add(path);
+            }
+        }
+        if (remaining.size() < storyPaths.size()) {
+            LOG.info("Resumed run, " + (storyPaths.size() - remaining.size())
+                    + " finished stories are skipped");
+        }
+        return remaining;
+    }
+
+    /**
+     * Append outcome of the finished story and force it to disk.
+     *
+     * @param outcome story outcome
+     */
+    public synchronized void append(final StoryOutcome outcome) {
+        try {
+            out.write((outcome + "\n").getBytes(StandardCharsets.UTF_8));
+            out.getChannel().force(false);
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot write checkpoint journal", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+
+    /**
+     * Check that journal is empty or its last line is complete.
+     *
+     * @param file journal file
+     * @return true if new outcome can be appended as is
+     * @throws IOException if journal cannot be read
+     */
+    private static boolean endsWithNewLine(final File file)
+            throws IOException {
+        if (file.length() == 0) {
+            return true;
+        }
+        try (RandomAccessFile journal = new RandomAccessFile(file, "r")) {
+            journal.seek(file.length() - 1);
+            return journal.read() == '\n';
+        }
+    }
+
+    /**
+     * Read outcomes from journal. The last line may be incomplete if the
+     * previous attempt was killed while writing it, so it is ignored.
+     *
+     * @param file journal file
+     * @throws IOException if journal cannot be read
+     */
+    private void read(final File file) throws IOException {
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String line = in.readLine();
+            while (line != null) {
+                try {
+                    final StoryOutcome outcome = StoryOutcome.parse(line);
+                    finished.put(outcome.getPath(), outcome);
+                } catch (RuntimeException e) {
+                    LOG.log(Level.FINE, "Skipped journal line " + line, e);
+                }
+                line = in.readLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.jbehave.embedder;
+
+import pawl.jbehave.RunHistory;
+import pawl.jbehave.StoryRetries;
+import pawl.jbehave.monitor.Reports;
+import pawl.jbehave.monitor.RunProgress;
+import pawl.jbehave.monitor.Summaries;
+import pawl.util.Resources;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Distributes stories between several worker JVMs on the same machine. Each
+ * worker runs one story at a time with the
+ * {@link pawl.jbehave.AbstractWebStory} configuration and takes the next one
+ * from its own deque or steals it from other workers. Workers write reports
+ * into the same output directory and coordinator generates one reports view
+ * at the end. Stories are handed out in the {@link RunHistory} order, with
+ * <code>story.fail.fast</code> no more stories are handed out after the first
+ * failure, and outcomes are recorded in the run history.
+ * <p>
+ * Finished stories are appended to the {@link RunJournal}, so a run resumed
+ * after a crash with <code>story.resume</code> skips them. Outcomes of the
+ * resumed and new stories are written together as JUnit XML report and the
+ * reports view is generated from reports of both attempts.
+ * <p>
+ * Stories of a worker that exits, before or after it connects, are handed
+ * out to the other workers. Stories left when no worker is alive are
+ * reported as failed.
+ * <p>
+ * {@link RunDashboard} of the coordinator shows stories running in each
+ * worker, queue depth and the time to finish the run. Parts of the run
+ * summaries written by workers are merged when all workers exited.
+ *
+ * @author Alex Voloshyn
+ * @version 1.6 10/19/26
+ * @see StoryWorker
+ */
+public final class StoryCoordinator {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(StoryCoordinator.class.getName());
+    /**
+     * Maximum queue length for incoming connections.
+     */
+    private static final int BACKLOG = 64;
+    /**
+     * Prefix of the worker names in run progress.
+     */
+    private static final String WORKER = "worker-";
+    /**
+     * Interval of the checks that started workers are alive while waiting
+     * for their connections, in milliseconds.
+     */
+    private static final int ACCEPT_TIMEOUT = 1000;
+    /**
+     * Prefixes of the JVM arguments that are not passed to workers, because
+     * agents like debugger would fail on the same port in every worker.
+     */
+    private static final String[] AGENT_ARGUMENTS = {
+            "-agentlib:", "-agentpath:", "-Xrunjdwp", "-Xdebug"};
+    /**
+     * Quantity of worker JVMs.
+     */
+    private final int workers;
+    /**
+     * Stories to run.
+     */
+    private final WorkStealingQueue<String> queue;
+    /**
+     * Expected durations of the stories from the run history.
+     */
+    private final Map<String, Long> expected = new LinkedHashMap<>();
+    /**
+     * Outcomes of finished stories.
+    private final List<StoryOutcome> outcomes = new CopyOnWriteArrayList<>();
+    /**
+     * Indexes of the workers that connected.
+     */
+    private final Set<Integer> connected = ConcurrentHashMap.newKeySet();
+    /**
+     * Flag that no more stories are handed out after a failure.
+     */
+    private volatile boolean stopped;
+    /**
+     * Checkpoint of the finished stories.
+     */
+    private final Consumer<StoryOutcome> checkpoint;
+
+    /**
+     * Create coordinator.
+     *
+     * @param workerJvms quantity of worker JVMs
+     * @param storyPaths stories to run
+     */
+    public StoryCoordinator(final int workerJvms,
+                            final List<String> storyPaths) {
+        this(workerJvms, storyPaths, (StoryOutcome outcome) -> { });
+    }
+
+    /**
+     * Create coordinator that journals finished stories.
+     *
+     * @param workerJvms quantity of worker JVMs
+     * @param storyPaths stories to run
+     * @param journal    checkpoint journal
+     */
+    public StoryCoordinator(final int workerJvms,
+                            final List<String> storyPaths,
+                            final RunJournal journal) {
+        this(workerJvms, storyPaths, journal::append);
+    }
+
+    /**
+     * Create coordinator.
+     *
+     * @param workerJvms quantity of worker JVMs
+     * @param storyPaths stories to run
+     * @param finished   checkpoint of the finished stories
+     */
+    private StoryCoordinator(final int workerJvms,
+                             final List<String> storyPaths,
+                             final Consumer<StoryOutcome> finished) {
+        workers = workerJvms;
+        final RunHistory history = RunHistory.load();
+        final List<String> ordered = history.order(storyPaths);
+        for (String path : ordered) {
+            expected.put(path, history.duration(path));
+        }
+        queue = new WorkStealingQueue<>(workerJvms, ordered);
+        checkpoint = finished;
+    }
+
+    /**
+     * Run given stories or all web stories found in
+     * <code>stories.location</code>.
+     *
+     * @param args story paths
+     * @throws IOException          if workers cannot be started
+     * @throws InterruptedException if interrupted while waiting workers
+     */
+    public static void main(final String[] args)
+            throws IOException, InterruptedException {
+        List<String> paths = Arrays.asList(args);
+        if (paths.isEmpty()) {
+            paths = StoryRunner.findPaths();
+        }
+        final List<StoryOutcome> outcomes;
+        try (RunJournal journal = RunJournal.open()) {
+            outcomes = journal.finished();
+            outcomes.addAll(new StoryCoordinator(
+                    Resources.base().coordinatorWorkers(),
+                    journal.remaining(paths), journal).run());
+        }
+        JUnitReport.write(new File(Reports.directory(), JUnitReport.NAME),
+                outcomes);
+        new StoryRunner().getEmbedder().generateReportsView();
+        for (StoryOutcome outcome : outcomes) {
+            if (!outcome.isPassed()) {
+                System.exit(1);
+            }
+        }
+    }
+
+    /**
+     * Start workers and wait until all stories are finished.
+     *
+     * @return outcomes of all stories
+     * @throws IOException          if workers cannot be started
+     * @throws InterruptedException if interrupted while waiting workers
+     */
+    public List<StoryOutcome> run() throws IOException, InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(workers);
+        final List<Process> processes = new ArrayList<>();
+        RunProgress.plan(expected, workers);
+        final RunDashboard dashboard = RunDashboard.start();
+        Summaries.discardParts();
+        StoryRetries.discardParts();
+        try (ServerSocket server = new ServerSocket(0, BACKLOG,
+                InetAddress.getLoopbackAddress())) {
+            for (int i = 0; i < workers; i++) {
+                processes.add(startWorker(server.getLocalPort(), i));
+            }
+            server.setSoTimeout(ACCEPT_TIMEOUT);
+            final Set<Integer> exited = new HashSet<>();
+            int accepted = 0;
+            while (accepted + exited.size() < workers) {
+                try {
+                    final Socket socket = server.accept();
+                    executor.execute(() -> serve(socket));
+                    accepted++;
+                } catch (SocketTimeoutException e) {
+                    checkExited(processes, exited);
+                }
+            }
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            failRemaining();
+        } finally {
+            for (Process process : processes) {
+                process.waitFor();
+            }
+            dashboard.stop();
+            Summaries.mergeParts();
+            StoryRetries.mergeParts();
+        }
+        StoryRunner.record(outcomes);
+        return new ArrayList<>(outcomes);
+    }
+
+    /**
+     * Requeue stories of the workers that exited before they connected.
+     *
+     * @param processes worker processes
+     * @param exited    indexes of the workers known to be exited
+     */
+    private void checkExited(final List<Process> processes,
+                             final Set<Integer> exited) {
+        for (int i = 0; i < processes.size(); i++) {
+            if (!processes.get(i).isAlive() && !connected.contains(i)
+                    && exited.add(i)) {
+                LOG.warning(WORKER + i + " exited with code "
+                        + processes.get(i).exitValue()
+                        + " before it connected");
+                queue.requeue(i);
+            }
+        }
+    }
+
+    /**
+     * Report stories left in queue when no worker is alive as failed.
+     */
+    private void failRemaining() {
+        if (stopped) {
+            return;
+        }
+        String path = queue.next(0);
+        while (path != null) {
+            outcomes.add(new StoryOutcome(path, "No worker is alive", 0));
+            path = queue.next(0);
+        }
+    }
+
+    /**
+     * Check that JVM argument attaches an agent.
+     *
+     * @param argument JVM argument
+     * @return true if argument should not be passed to workers
+     */
+    private static boolean isAgent(final String argument) {
+        for (String prefix : AGENT_ARGUMENTS) {
+            if (argument.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Start worker JVM with the same classpath and JVM arguments.
+     *
+     * @param port  coordinator port
+     * @param index worker index
+     * @return worker process
+     * @throws IOException if process cannot be started
+     */
+    private Process startWorker(final int port, final int index)
+            throws IOException {
+        final List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin"
+                + File.separator + "java");
+        for (String argument : ManagementFactory.getRuntimeMXBean()
+                .getInputArguments()) {
+            if (!isAgent(argument)) {
+                command.add(argument);
+            }
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(StoryWorker.class.getName());
+        command.add(String.valueOf(port));
+        command.add(String.valueOf(index));
+        return new ProcessBuilder(command).inheritIO().start();
+    }
+
+    /**
+     * Hand out stories to a connected worker and collect its outcomes.
+     *
+     * @param socket worker connection
+     */
+    private void serve(final Socket socket) {
+        String inFlight = null;
+        String slot = null;
+        int index = -1;
+        try (Socket connection = socket) {
+            final BufferedReader in = new BufferedReader(
+                    new InputStreamReader(connection.getInputStream(),
+                            StandardCharsets.UTF_8));
+            final PrintWriter out = new PrintWriter(new OutputStreamWriter(
+                    connection.getOutputStream(), StandardCharsets.UTF_8),
+                    true);
+            index = Integer.parseInt(in.readLine().trim());
+            connected.add(index);
+            slot = WORKER + index;
+            String line = in.readLine();
+            while (line != null) {
+                if (StoryWorker.NEXT.equals(line)) {
+                    inFlight = null;
+                    if (!stopped) {
+                        inFlight = queue.next(index);
+                    }
+                    if (inFlight == null) {
+                        out.println(StoryWorker.END);
+                        return;
+                    }
+                    out.println(inFlight);
+                    RunProgress.started(slot, inFlight);
+                } else {
+                    final StoryOutcome outcome = StoryOutcome.parse(line);
+                    outcomes.add(outcome);
+                    checkpoint.accept(outcome);
+                    LOG.info(outcome.toString());
+                    finished(slot, outcome.isPassed());
+                    if (!outcome.isPassed()
+                            && Resources.base().storyFailFast()) {
+                        stopped = true;
+                    }
+                    inFlight = null;
+                }
+                line = in.readLine();
+            }
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, e.getMessage(), e);
+        }
+        if (inFlight != null) {
+            outcomes.add(new StoryOutcome(inFlight, "Worker exited", 0));
+            finished(slot, false);
+        }
+        if (index >= 0) {
+            queue.requeue(index);
+        }
+    }
+
+    /**
+     * Report story finished by worker to the run progress.
+     *
+     * @param slot   worker name
+     * @param passed flag that story passed
+     */
+    private static void finished(final String slot, final boolean passed) {
+        if (!passed) {
+            RunProgress.failed(slot);
+        }
+        RunProgress.finished(slot);
+    }
+}
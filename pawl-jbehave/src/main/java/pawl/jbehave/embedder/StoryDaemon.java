@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.jbehave.embedder;
+
+import pawl.jbehave.StoryRetries;
+import pawl.jbehave.monitor.Summaries;
+import pawl.util.Resources;
+import pawl.webdriver.LocalizedWebDriverProvider;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Long living process that keeps JVM, steps and browsers hot between runs.
+ * The daemon listens on the loopback <code>daemon.port</code> and accepts
+ * story paths one per line terminated by an empty line. Outcome of each
+ * story is streamed back as soon as it is finished, the last line is
+ * <code>DONE &lt;failed&gt;</code>. A <code>STOP</code> line stops the daemon.
+ * <p>
+ * Stories are loaded from the classpath on every request, so recompiled
+ * stories are picked up without restart. Browsers are reused between
+ * requests because the daemon enables <code>webdriver.reuse</code>.
+ * A request that cannot be run, e.g. with unknown story path, is answered
+ * with failed outcomes and the daemon keeps accepting requests. Outcomes
+ * are recorded in the {@link pawl.jbehave.RunHistory}. Each request writes
+ * its own run summaries.
+ *
+ * @author Alex Voloshyn
+ * @version 1.4 10/19/26
+ * @see StoryDaemonClient
+ */
+public final class StoryDaemon {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(StoryDaemon.class.getName());
+    /**
+     * Command to stop daemon.
+     */
+    public static final String STOP = "STOP";
+    /**
+     * Prefix of the last response line.
+     */
+    public static final String DONE = "DONE";
+    /**
+     * Maximum queue length for incoming connections.
+     */
+    private static final int BACKLOG = 8;
+    /**
+     * Story runner that is kept between requests.
+     */
+    private final StoryRunner runner = new StoryRunner();
+    /**
+     * Port to listen.
+     */
+    private final int port;
+    /**
+     * Flag to stop accepting requests.
+     */
+    private volatile boolean running = true;
+
+    /**
+     * Create daemon.
+     *
+     * @param daemonPort port to listen
+     */
+    public StoryDaemon(final int daemonPort) {
+        port = daemonPort;
+    }
+
+    /**
+     * Start daemon on the configured port.
+     *
+     * @param args not used
+     * @throws IOException if port cannot be opened
+     */
+    public static void main(final String[] args) throws IOException {
+        System.setProperty("webdriver.reuse", "true");
+        Runtime.getRuntime().addShutdownHook(new Thread(
+                LocalizedWebDriverProvider::quitIdleDrivers));
+        new StoryDaemon(Resources.base().daemonPort()).serve();
+    }
+
+    /**
+     * Accept requests until stop command.
+     *
+     * @throws IOException if port cannot be opened
+     */
+    public void serve() throws IOException {
+        try (ServerSocket server = new ServerSocket(port, BACKLOG,
+                InetAddress.getLoopbackAddress())) {
+            LOG.info("Story daemon is listening on port " + port);
+            while (running) {
+                try (Socket socket = server.accept()) {
+                    handle(socket);
+                } catch (IOException | RuntimeException e) {
+                    LOG.log(Level.WARNING, e.getMessage(), e);
+                }
+            }
+        } finally {
+            LocalizedWebDriverProvider.quitIdleDrivers();
+        }
+    }
+
+    /**
+     * Read story paths from connection, run them and stream outcomes back.
+     *
+     * @param socket client connection
+     * @throws IOException if connection is broken
+     */
+    private void handle(final Socket socket) throws IOException {
+        final BufferedReader in = new BufferedReader(new InputStreamReader(
+                socket.getInputStream(), StandardCharsets.UTF_8));
+        final PrintWriter out = new PrintWriter(new OutputStreamWriter(
+                socket.getOutputStream(), StandardCharsets.UTF_8), true);
+        final List<String> paths = new ArrayList<>();
+        String line = in.readLine();
+        while (line != null && !line.trim().isEmpty()) {
+            if (STOP.equals(line.trim())) {
+                running = false;
+                out.println(DONE + " 0");
+                return;
+            }
+            paths.add(line.trim());
+            line = in.readLine();
+        }
+        final List<StoryOutcome> streamed = new ArrayList<>();
+        List<StoryOutcome> outcomes;
+        try {
+            outcomes = runner.run(paths, (StoryOutcome outcome) -> {
+                synchronized (out) {
+                    streamed.add(outcome);
+                    out.println(outcome);
+                }
+            });
+            StoryRunner.record(outcomes);
+        } catch (RuntimeException e) {
+            LOG.log(Level.WARNING, "Request failed: " + paths, e);
+            synchronized (out) {
+                outcomes = new ArrayList<>(streamed);
+                final Set<String> reported = new HashSet<>();
+                for (StoryOutcome outcome : streamed) {
+                    reported.add(outcome.getPath());
+                }
+                for (String path : paths) {
+                    if (!reported.contains(path)) {
+                        final StoryOutcome outcome =
+                                new StoryOutcome(path, String.valueOf(e), 0);
+                        outcomes.add(outcome);
+                        out.println(outcome);
+                    }
+                }
+            }
+        } finally {
+            runner.clear();
+            Summaries.reset();
+            StoryRetries.reset();
+        }
+        int failed = 0;
+        for (StoryOutcome outcome : outcomes) {
+            if (!outcome.isPassed()) {
+                failed++;
+            }
+        }
+        out.println(DONE + " " + failed);
+    }
+}
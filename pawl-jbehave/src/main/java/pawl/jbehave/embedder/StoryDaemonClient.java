@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.jbehave.embedder;
+
+import pawl.util.Resources;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Thin command line client of the {@link StoryDaemon}. Arguments are story
+ * paths to run, <code>STOP</code> stops the daemon. Exits with non zero
+ * status when any story failed.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class StoryDaemonClient {
+    /**
+     * For non-instantiability.
+     */
+    private StoryDaemonClient() {
+        super();
+    }
+
+    /**
+     * Submit story paths to the daemon and print outcomes.
+     *
+     * @param args story paths
+     * @throws IOException if daemon is not available
+     */
+    public static void main(final String[] args) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(),
+                Resources.base().daemonPort())) {
+            final PrintWriter out = new PrintWriter(new OutputStreamWriter(
+                    socket.getOutputStream(), StandardCharsets.UTF_8), true);
+            for (String path : args) {
+                out.println(path);
+            }
+            out.println();
+            final BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(),
+                            StandardCharsets.UTF_8));
+            String line = in.readLine();
+            while (line != null) {
+                System.out.println(line);
+                if (line.startsWith(StoryDaemon.DONE)) {
+                    final int failed = Integer.parseInt(line.substring(
+                            StoryDaemon.DONE.length()).trim());
+                    if (failed > 0) {
+                        System.exit(1);
+                    }
+                    return;
+                }
+                line = in.readLine();
+            }
+        }
+    }
+}
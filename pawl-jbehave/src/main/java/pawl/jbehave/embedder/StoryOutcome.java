@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.jbehave.embedder;
+
+/**
+ * Result of a single story run. String representation has outcome, story
+ * path, duration and failure message separated by tabs, so paths with
+ * spaces are kept intact.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class StoryOutcome {
+    /**
+     * Prefix of the passed story string.
+     */
+    public static final String PASSED = "PASSED";
+    /**
+     * Prefix of the failed story string.
+     */
+    public static final String FAILED = "FAILED";
+    /**
+     * Quantity of the parts in the failed story string.
+     */
+    private static final int PARTS = 4;
+    /**
+     * Separator of the parts in the story string.
+     */
+    private static final char SEPARATOR = '\t';
+    /**
+     * Story path.
+     */
+    private final String path;
+    /**
+     * Failure message or null if story passed.
+     */
+    private final String failure;
+    /**
+     * Story duration in milliseconds.
+     */
+    private final long duration;
+
+    /**
+     * Create story outcome.
+     *
+     * @param storyPath     story path
+     * @param failureReason failure message or null if story passed
+     * @param millis        story duration in milliseconds
+     */
+    public StoryOutcome(final String storyPath, final String failureReason,
+                        final long millis) {
+        path = storyPath;
+        failure = failureReason;
+        duration = millis;
+    }
+
+    /**
+     * Parse outcome from its string representation.
+     *
+     * @param line outcome string created by {@link #toString()}
+     * @return story outcome
+     */
+    public static StoryOutcome parse(final String line) {
+        final String[] parts = line.split(String.valueOf(SEPARATOR), PARTS);
+        final long millis = Long.parseLong(parts[2].replace("ms", ""));
+        String reason = null;
+        if (line.startsWith(FAILED)) {
+            reason = "";
+            if (parts.length == PARTS) {
+                reason = parts[PARTS - 1];
+            }
+        }
+        return new StoryOutcome(parts[1], reason, millis);
+    }
+
+    /**
+     * Gets story path.
+     *
+     * @return story path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Gets failure message.
+     *
+     * @return failure message or null if story passed
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    /**
+     * Gets story duration.
+     *
+     * @return duration in milliseconds
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Check that story passed.
+     *
+     * @return true if story has no failures
+     */
+    public boolean isPassed() {
+        return failure == null;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        if (isPassed()) {
+            builder.append(PASSED);
+        } else {
+            builder.append(FAILED);
+        }
+        builder.append(SEPARATOR).append(path)
+                .append(SEPARATOR).append(duration).append("ms");
+        if (!isPassed()) {
+            builder.append(SEPARATOR).append(failure.replace('\n', ' ')
+                    .replace('\r', ' '));
+        }
+        return builder.toString();
+    }
+}
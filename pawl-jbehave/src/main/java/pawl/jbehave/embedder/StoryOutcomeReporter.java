@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.jbehave.embedder;
+
+import org.jbehave.core.model.OutcomesTable;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.reporters.NullStoryReporter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Story reporter that collects pass or fail outcome of each top level story
+ * and notifies listeners when story is finished. Given stories are counted
+ * as a part of the story that declares them.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class StoryOutcomeReporter extends NullStoryReporter {
+    /**
+     * Listeners of finished stories.
+     */
+    private final List<Consumer<StoryOutcome>> listeners =
+            new CopyOnWriteArrayList<>();
+    /**
+     * Story running on the current thread.
+     */
+    private final ThreadLocal<RunningStory> current = new ThreadLocal<>();
+
+    /**
+     * Add listener of finished stories.
+     *
+     * @param listener to add
+     */
+    public void addListener(final Consumer<StoryOutcome> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Remove listener of finished stories.
+     *
+     * @param listener to remove
+     */
+    public void removeListener(final Consumer<StoryOutcome> listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void beforeStory(final Story story, final boolean givenStory) {
+        if (!givenStory) {
+            current.set(new RunningStory(story.getPath()));
+        }
+    }
+
+    @Override
+    public void failed(final String step, final Throwable cause) {
+        final RunningStory running = current.get();
+        if (running != null && running.failure == null) {
+            running.failure = step + ": " + cause;
+        }
+    }
+
+    @Override
+    public void failedOutcomes(final String step, final OutcomesTable table) {
+        failed(step, new AssertionError("Outcomes failed"));
+    }
+
+    @Override
+    public void storyCancelled(final Story story,
+                               final StoryDuration storyDuration) {
+        notifyListeners(new StoryOutcome(story.getPath(),
+                "Story cancelled after " + storyDuration.getDurationInSecs()
+                        + " seconds",
+                TimeUnit.SECONDS.toMillis(storyDuration.getDurationInSecs())));
+    }
+
+    @Override
+    public void afterStory(final boolean givenOrRestartingStory) {
+        final RunningStory running = current.get();
+        if (givenOrRestartingStory || running == null) {
+            return;
+        }
+        current.remove();
+        notifyListeners(new StoryOutcome(running.path, running.failure,
+                TimeUnit.NANOSECONDS.toMillis(
+                        System.nanoTime() - running.start)));
+    }
+
+    /**
+     * Send outcome to all listeners.
+     *
+     * @param outcome of the finished story
+     */
+    private void notifyListeners(final StoryOutcome outcome) {
+        for (Consumer<StoryOutcome> listener : listeners) {
+            listener.accept(outcome);
+        }
+    }
+
+    /**
+     * State of the story running on a thread.
+     */
+    private static final class RunningStory {
+        /**
+         * Story path.
+         */
+        private final String path;
+        /**
+         * Start time in nanoseconds.
+         */
+        private final long start = System.nanoTime();
+        /**
+         * First failure of the story.
+         */
+        private String failure;
+
+        /**
+         * Create running story state.
+         *
+         * @param storyPath story path
+         */
+        private RunningStory(final String storyPath) {
+            path = storyPath;
+        }
+    }
+}
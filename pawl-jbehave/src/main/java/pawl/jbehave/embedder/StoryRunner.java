@@ -0,0 +1,327 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.jbehave.embedder;
+
+import org.jbehave.core.embedder.Embedder;
+import org.jbehave.core.io.CodeLocations;
+import org.jbehave.core.io.StoryFinder;
+import pawl.jbehave.AbstractWebStory;
+import pawl.jbehave.AffectedStories;
+import pawl.jbehave.AffectedStoriesReporter;
+import pawl.jbehave.AsyncStoryReporter;
+import pawl.jbehave.RunHistory;
+import pawl.jbehave.ScreenshotWriter;
+import pawl.jbehave.StoryRetries;
+import pawl.jbehave.StorySplitter;
+import pawl.jbehave.monitor.Reports;
+import pawl.jbehave.monitor.RunProgress;
+import pawl.jbehave.monitor.Summaries;
+import pawl.jbehave.monitor.Tracer;
+import pawl.util.Resources;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs story paths with the {@link AbstractWebStory} configuration and
+ * reports outcome of each story. The embedder, steps and driver provider are
+ * created once, so the same runner can be used for many runs. Stories marked
+ * to run in parallel are split to parts and outcomes of the parts are merged
+ * back in the original order. Failed stories are retried by
+ * {@link StoryRetries} and the outcome of the last attempt is kept. Stories
+ * are scheduled in the {@link RunHistory} order and with
+ * <code>story.fail.fast</code> no more stories are scheduled after the batch
+ * with the first failure. With <code>story.affected.only</code> stories not
+ * affected by changes since their last green run are skipped with the cached
+ * result and listed in <code>pawl-skipped-stories.csv</code>. Progress of
+ * the run is shown by {@link RunDashboard} when it is enabled.
+ *
+ * @author Alex Voloshyn
+ * @version 1.8 10/19/26
+ */
+public final class StoryRunner {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(StoryRunner.class.getName());
+    /**
+     * Report of the skipped stories.
+     */
+    private static final String SKIPPED = "pawl-skipped-stories.csv";
+    /**
+     * Outcomes of the finished stories.
+     */
+    private final StoryOutcomeReporter outcomes = new StoryOutcomeReporter();
+    /**
+     * Configured embedder.
+     */
+    private final Embedder embedder;
+    /**
+     * Splitter of the stories marked to run in parallel.
+     */
+    private final StorySplitter splitter;
+    /**
+     * Retries of the failed stories.
+     */
+    private final StoryRetries retries;
+    /**
+     * Recorder of the inputs of the passed stories.
+     */
+    private final AffectedStoriesReporter affected;
+
+    /**
+     * Create runner with default web story configuration.
+     */
+    public StoryRunner() {
+        this(new EmbeddedWebStory());
+    }
+
+    /**
+     * Create runner with configuration of the given story.
+     *
+     * @param story web story to take configuration from
+     */
+    public StoryRunner(final AbstractWebStory story) {
+        story.withReporters(outcomes);
+        embedder = story.configuredEmbedder();
+        splitter = story.getStorySplitter();
+        retries = story.getStoryRetries();
+        affected = story.getAffectedStories();
+    }
+
+    /**
+     * Find web stories in the <code>stories.location</code> directory.
+     *
+     * @return story paths
+     */
+    public static List<String> findPaths() {
+        return new StoryFinder().findPaths(
+                CodeLocations.codeLocationFromPath(
+                        Resources.base().storiesLocation()),
+                Arrays.asList(Resources.base().webStoriesToRun().split(",")),
+                Collections.<String>emptyList());
+    }
+
+    /**
+     * Gets configured embedder.
+     *
+     * @return embedder
+     */
+    public Embedder getEmbedder() {
+        return embedder;
+    }
+
+    /**
+     * Forget parts and generated stories of the finished runs, so a long
+     * living runner does not keep them.
+     */
+    public void clear() {
+        splitter.clear();
+    }
+
+    /**
+     * Run stories.
+     *
+     * @param storyPaths paths of stories to run
+     * @param listener   notified as soon as each story or part is finished
+     * @return outcomes of all finished stories in the scheduled order
+     */
+    public List<StoryOutcome> run(final List<String> storyPaths,
+                                  final Consumer<StoryOutcome> listener) {
+        final List<StoryOutcome> skipped = new ArrayList<>();
+        final RunHistory history = RunHistory.load();
+        final List<String> ordered = history.order(
+                affected(storyPaths, skipped));
+        final boolean failFast = Resources.base().storyFailFast();
+        int batch = ordered.size();
+        if (failFast) {
+            batch = Math.max(1, embedder.embedderControls().threads());
+        }
+        final List<StoryOutcome> finished =
+                Collections.synchronizedList(new ArrayList<>());
+        final Consumer<StoryOutcome> collector = (StoryOutcome outcome) -> {
+            finished.add(outcome);
+            listener.accept(outcome);
+        };
+        for (StoryOutcome outcome : skipped) {
+            listener.accept(outcome);
+        }
+        final Map<String, Long> expected = new LinkedHashMap<>();
+        for (String path : ordered) {
+            expected.put(path, history.duration(path));
+        }
+        RunProgress.plan(expected, embedder.embedderControls().threads());
+        final RunDashboard dashboard = RunDashboard.start();
+        outcomes.addListener(collector);
+        Tracer.beginRun(StoryRunner.class.getSimpleName());
+        affected.beginRun();
+        try {
+            for (int from = 0; from < ordered.size(); from += batch) {
+                final int to = Math.min(from + batch, ordered.size());
+                try {
+                    retries.run(embedder,
+                            splitter.split(ordered.subList(from, to)));
+                } catch (Embedder.RunningStoriesFailed e) {
+                    LOG.log(Level.FINE, e.getMessage(), e);
+                }
+                if (failFast && to < ordered.size() && failed(
+                        merge(ordered.subList(0, to), finished))) {
+                    LOG.info("Fail fast, " + (ordered.size() - to)
+                            + " stories are not scheduled");
+                    break;
+                }
+            }
+        } finally {
+            affected.endRun();
+            Tracer.endRun();
+            Summaries.write();
+            AsyncStoryReporter.drain();
+            ScreenshotWriter.drain();
+            outcomes.removeListener(collector);
+            dashboard.stop();
+        }
+        final List<StoryOutcome> result = merge(ordered, finished);
+        result.addAll(skipped);
+        return result;
+    }
+
+    /**
+     * Select stories affected by changes since their last green run when
+     * <code>story.affected.only</code> is enabled.
+     *
+     * @param storyPaths paths of stories to run
+     * @param skipped    collects cached outcomes of the skipped stories
+     * @return paths of the affected stories
+     */
+    private static List<String> affected(final List<String> storyPaths,
+                                         final List<StoryOutcome> skipped) {
+        if (!Resources.base().storyAffectedOnly()) {
+            return storyPaths;
+        }
+        final AffectedStories history = AffectedStories.load();
+        final List<String> selected = new ArrayList<>();
+        final List<String> unaffected = new ArrayList<>();
+        for (String path : storyPaths) {
+            if (history.affected(path)) {
+                selected.add(path);
+            } else {
+                unaffected.add(path);
+                skipped.add(new StoryOutcome(path, null, 0));
+            }
+        }
+        if (!unaffected.isEmpty()) {
+            LOG.info("Skipped " + unaffected.size()
+                    + " stories not affected since their last green run");
+            history.writeSkipped(new File(Reports.directory(), SKIPPED),
+                    unaffected);
+        }
+        return selected;
+    }
+
+    /**
+     * Record outcomes of the stories in the run history.
+     *
+     * @param finished outcomes of the finished stories
+     */
+    public static void record(final List<StoryOutcome> finished) {
+        final RunHistory history = RunHistory.load();
+        for (StoryOutcome outcome : finished) {
+            history.record(outcome.getPath(), !outcome.isPassed(),
+                    outcome.getDuration());
+        }
+        history.store();
+    }
+
+    /**
+     * Check that some of the stories failed.
+     *
+     * @param finished outcomes of the stories
+     * @return true if there is a failed story
+     */
+    private static boolean failed(final List<StoryOutcome> finished) {
+        for (StoryOutcome outcome : finished) {
+            if (!outcome.isPassed()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Merge outcomes of the parts to outcomes of the original stories.
+     *
+     * @param storyPaths original story paths
+     * @param finished   outcomes of the stories and parts
+     * @return outcomes of the original stories in the given order
+     */
+    private List<StoryOutcome> merge(final List<String> storyPaths,
+                                     final List<StoryOutcome> finished) {
+        final Map<String, StoryOutcome> latest = new LinkedHashMap<>();
+        for (StoryOutcome part : finished) {
+            latest.put(part.getPath(), part);
+        }
+        final List<StoryOutcome> sorted = new ArrayList<>(latest.values());
+        sorted.sort((StoryOutcome a, StoryOutcome b) ->
+                a.getPath().compareTo(b.getPath()));
+        final Map<String, StoryOutcome> merged = new LinkedHashMap<>();
+        for (String path : storyPaths) {
+            merged.put(path, null);
+        }
+        for (StoryOutcome part : sorted) {
+            final String path = splitter.originalPath(part.getPath());
+            final StoryOutcome story = merged.get(path);
+            if (story == null) {
+                merged.put(path, part);
+            } else {
+                String failure = story.getFailure();
+                if (failure == null) {
+                    failure = part.getFailure();
+                }
+                merged.put(path, new StoryOutcome(path, failure,
+                        story.getDuration() + part.getDuration()));
+            }
+        }
+        final List<StoryOutcome> result = new ArrayList<>();
+        for (Map.Entry<String, StoryOutcome> entry : merged.entrySet()) {
+            if (entry.getValue() != null) {
+                result.add(new StoryOutcome(entry.getKey(),
+                        entry.getValue().getFailure(),
+                        entry.getValue().getDuration()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Run stories.
+     *
+     * @param storyPaths paths of stories to run
+     * @return outcomes of all finished stories
+     */
+    public List<StoryOutcome> run(final List<String> storyPaths) {
+        return run(storyPaths, (StoryOutcome outcome) -> { });
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.jbehave.embedder;
+
+import pawl.jbehave.monitor.Reports;
+import pawl.webdriver.LocalizedWebDriverProvider;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Worker JVM of the {@link StoryCoordinator}. Worker asks coordinator for
+ * the next story path, runs it and sends back its outcome until coordinator
+ * answers <code>END</code>. Worker writes parts of the run summaries, which
+ * the coordinator merges.
+ *
+ * @author Alex Voloshyn
+ * @version 1.2 10/19/26
+ */
+public final class StoryWorker {
+    /**
+     * Request of the next story.
+     */
+    public static final String NEXT = "NEXT";
+    /**
+     * Answer when there are no more stories.
+     */
+    public static final String END = "END";
+
+    /**
+     * For non-instantiability.
+     */
+    private StoryWorker() {
+        super();
+    }
+
+    /**
+     * Connect to coordinator and run stories.
+     *
+     * @param args coordinator port and worker index
+     * @throws IOException if coordinator is not available
+     */
+    public static void main(final String[] args) throws IOException {
+        System.setProperty("webdriver.reuse", "true");
+        System.setProperty("dashboard.port", "0");
+        System.setProperty(Reports.WORKER, args[1]);
+        final StoryRunner runner = new StoryRunner();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(),
+                Integer.parseInt(args[0]))) {
+            final BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(),
+                            StandardCharsets.UTF_8));
+            final PrintWriter out = new PrintWriter(new OutputStreamWriter(
+                    socket.getOutputStream(), StandardCharsets.UTF_8), true);
+            out.println(args[1]);
+            out.println(NEXT);
+            String path = in.readLine();
+            while (path != null && !END.equals(path)) {
+                final List<StoryOutcome> outcomes =
+                        runner.run(Collections.singletonList(path));
+                if (outcomes.isEmpty()) {
+                    out.println(new StoryOutcome(path, "Story not run", 0));
+                } else {
+                    out.println(outcomes.get(0));
+                }
+                out.println(NEXT);
+                path = in.readLine();
+            }
+        } finally {
+            LocalizedWebDriverProvider.quitIdleDrivers();
+        }
+    }
+}
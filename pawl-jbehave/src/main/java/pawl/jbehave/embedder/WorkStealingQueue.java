@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.jbehave.embedder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Work queue with a deque per worker. A worker takes items from the head of
+ * its own deque and when it is empty steals from the tail of the longest
+ * deque of other workers.
+ *
+ * @param <T> type of work items
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class WorkStealingQueue<T> {
+    /**
+     * Deques of all workers.
+     */
+    private final List<Deque<T>> deques;
+
+    /**
+     * Create queue and distribute items between workers round robin.
+     *
+     * @param workers quantity of workers
+     * @param items   work items
+     */
+    public WorkStealingQueue(final int workers, final Collection<T> items) {
+        deques = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            deques.add(new ConcurrentLinkedDeque<>());
+        }
+        int index = 0;
+        for (T item : items) {
+            deques.get(index % workers).offerLast(item);
+            index++;
+        }
+    }
+
+    /**
+     * Take next item for the worker.
+     *
+     * @param worker index of the worker
+     * @return next item or null if there is no more work
+     */
+    public T next(final int worker) {
+        T item = deques.get(worker).pollFirst();
+        while (item == null && !isEmpty()) {
+            item = steal(worker);
+        }
+        return item;
+    }
+
+    /**
+     * Move items of the worker that exited to deques of the other workers.
+     *
+     * @param worker index of the worker
+     */
+    public void requeue(final int worker) {
+        final Deque<T> dead = deques.get(worker);
+        if (deques.size() == 1) {
+            return;
+        }
+        int index = worker;
+        T item = dead.pollFirst();
+        while (item != null) {
+            index = (index + 1) % deques.size();
+            if (index != worker) {
+                deques.get(index).offerLast(item);
+                item = dead.pollFirst();
+            }
+        }
+    }
+
+    /**
+     * Check that all deques are empty.
+     *
+     * @return true if there is no more work
+     */
+    public boolean isEmpty() {
+        for (Deque<T> deque : deques) {
+            if (!deque.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Steal item from the tail of the longest deque of other workers.
+     *
+     * @param thief index of the worker that steals
+     * @return stolen item or null if victim was emptied concurrently
+     */
+    private T steal(final int thief) {
+        Deque<T> victim = null;
+        int longest = 0;
+        for (int i = 0; i < deques.size(); i++) {
+            final int size = deques.get(i).size();
+            if (i != thief && size > longest) {
+                victim = deques.get(i);
+                longest = size;
+            }
+        }
+        if (victim == null) {
+            return deques.get(thief).pollFirst();
+        }
+        return victim.pollLast();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import org.jbehave.core.model.OutcomesTable;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.reporters.NullStoryReporter;
+
+/**
+ * Story reporter that attributes driver commands to the running story and
+ * step in {@link CommandStatistics}.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class CommandReporter extends NullStoryReporter {
+    /**
+     * Create reporter and start counting driver commands.
+     */
+    public CommandReporter() {
+        super();
+        CommandStatistics.enable();
+    }
+
+    @Override
+    public void beforeStory(final Story story, final boolean givenStory) {
+        if (!givenStory) {
+            CommandStatistics.beginStory(story.getPath());
+        }
+    }
+
+    @Override
+    public void afterStory(final boolean givenStory) {
+        if (!givenStory) {
+            CommandStatistics.endStory();
+        }
+    }
+
+    @Override
+    public void beforeStep(final String step) {
+        CommandStatistics.beginStep(step);
+    }
+
+    @Override
+    public void successful(final String step) {
+        CommandStatistics.endStep();
+    }
+
+    @Override
+    public void failed(final String step, final Throwable cause) {
+        CommandStatistics.endStep();
+    }
+
+    @Override
+    public void failedOutcomes(final String step, final OutcomesTable table) {
+        CommandStatistics.endStep();
+    }
+
+    @Override
+    public void pending(final String step) {
+        CommandStatistics.endStep();
+    }
+}
@@ -0,0 +1,426 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import pawl.webdriver.CommandListener;
+import pawl.webdriver.DriverCommands;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Counts driver commands and their round trip time per step pattern and per
+ * story. Ranking of the most chatty steps and stories is written as
+ * <code>pawl-driver-commands.json</code> and
+ * <code>pawl-driver-commands.csv</code> into the JBehave reports directory
+ * when a run ends. Worker JVMs of the coordinator save their counters as
+ * parts, which the coordinator merges.
+ *
+ * @author Alex Voloshyn
+ * @version 1.2 10/19/26
+ */
+public final class CommandStatistics implements CommandListener {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(CommandStatistics.class.getName());
+    /**
+     * Summary file name without extension.
+     */
+    private static final String SUMMARY = "pawl-driver-commands";
+    /**
+     * Name of the commands sent outside of steps.
+     */
+    private static final String OUTSIDE = "(outside steps)";
+    /**
+     * Number of most frequent commands listed per entry.
+     */
+    private static final int TOP_COMMANDS = 3;
+    /**
+     * Nanoseconds in millisecond.
+     */
+    private static final double NANOS = 1000000.0;
+    /**
+     * Quantity of the fields in line of the saved part.
+     */
+    private static final int FIELDS = 6;
+    /**
+     * Index of the number of commands in line of the saved part.
+     */
+    private static final int COMMANDS_FIELD = 3;
+    /**
+     * Index of the round trip time in line of the saved part.
+     */
+    private static final int NANOS_FIELD = 4;
+    /**
+     * Index of the counts by command name in line of the saved part.
+     */
+    private static final int BY_COMMAND_FIELD = 5;
+    /**
+     * Single listener instance.
+     */
+    private static final CommandStatistics INSTANCE = new CommandStatistics();
+    /**
+     * Flag that listener is registered.
+     */
+    private static final AtomicBoolean ENABLED = new AtomicBoolean();
+    /**
+     * Counters by step pattern.
+     */
+    private static final Map<String, Counters> STEPS =
+            new ConcurrentHashMap<>();
+    /**
+     * Counters by story path.
+     */
+    private static final Map<String, Counters> STORIES =
+            new ConcurrentHashMap<>();
+    /**
+     * Step pattern running in current thread.
+     */
+    private static final ThreadLocal<String> STEP = new ThreadLocal<>();
+
+    /**
+     * For singleton.
+     */
+    private CommandStatistics() {
+        super();
+    }
+
+    /**
+     * Start counting driver commands.
+     */
+    public static void enable() {
+        if (ENABLED.compareAndSet(false, true)) {
+            DriverCommands.addListener(INSTANCE);
+        }
+    }
+
+    /**
+     * Mark story started in current thread.
+     *
+     * @param path story path
+     */
+    public static void beginStory(final String path) {
+        CurrentStory.set(path);
+        counters(STORIES, path).invocations.increment();
+    }
+
+    /**
+     * Mark story finished in current thread.
+     */
+    public static void endStory() {
+        CurrentStory.clear();
+    }
+
+    /**
+     * Mark step started in current thread.
+     *
+     * @param step step text
+     */
+    public static void beginStep(final String step) {
+        final String pattern = StepStatistics.pattern(step);
+        STEP.set(pattern);
+        counters(STEPS, pattern).invocations.increment();
+    }
+
+    /**
+     * Mark step finished in current thread.
+     */
+    public static void endStep() {
+        STEP.remove();
+    }
+
+    /**
+     * Gets number of commands sent by step.
+     *
+     * @param step step text or pattern
+     * @return number of commands
+     */
+    public static long commands(final String step) {
+        final Counters counters = STEPS.get(StepStatistics.pattern(step));
+        if (counters == null) {
+            return 0;
+        }
+        return counters.commands.sum();
+    }
+
+    @Override
+    public void beforeCommand(final String command) {
+        // counted when finished
+    }
+
+    @Override
+    public void afterCommand(final String command, final long nanos,
+                             final Throwable failure) {
+        String step = STEP.get();
+        if (step == null) {
+            step = OUTSIDE;
+        }
+        counters(STEPS, step).record(command, nanos);
+        final String story = CurrentStory.path();
+        if (story != null) {
+            counters(STORIES, story).record(command, nanos);
+        }
+    }
+
+    /**
+     * Gets or creates counters.
+     *
+     * @param map counters map
+     * @param key counters key
+     * @return counters
+     */
+    private static Counters counters(final Map<String, Counters> map,
+                                     final String key) {
+        return map.computeIfAbsent(key, (String name) -> new Counters());
+    }
+
+    /**
+     * Write ranking of steps and stories into reports directory. Worker JVM
+     * saves its part of the ranking instead.
+     */
+    public static void write() {
+        if (STEPS.isEmpty()) {
+            return;
+        }
+        if (Reports.isWorker()) {
+            save();
+            return;
+        }
+        try (PrintWriter json = Reports.open(SUMMARY + ".json");
+             PrintWriter csv = Reports.open(SUMMARY + ".csv")) {
+            csv.println("scope,name,invocations,commands,"
+                    + "commands_per_invocation,command_ms,top_commands");
+            json.println("{\"steps\": [");
+            write(json, csv, "step", STEPS);
+            json.println("], \"stories\": [");
+            write(json, csv, "story", STORIES);
+            json.println("]}");
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot write driver commands", e);
+        }
+    }
+
+    /**
+     * Save counters of steps and stories as part of the summary.
+     */
+    private static void save() {
+        try (PrintWriter part = Reports.open(Reports.part(SUMMARY))) {
+            save(part, "step", STEPS);
+            save(part, "story", STORIES);
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot save driver commands", e);
+        }
+    }
+
+    /**
+     * Save counters of the scope.
+     *
+     * @param part  part writer
+     * @param scope counters scope
+     * @param map   counters by name
+     */
+    private static void save(final PrintWriter part, final String scope,
+                             final Map<String, Counters> map) {
+        for (Map.Entry<String, Counters> entry : map.entrySet()) {
+            final Counters counters = entry.getValue();
+            final StringBuilder line = new StringBuilder(scope).append(' ')
+                    .append(Reports.encode(entry.getKey())).append(' ')
+                    .append(counters.invocations.sum()).append(' ')
+                    .append(counters.commands.sum()).append(' ')
+                    .append(counters.nanos.sum()).append(' ');
+            for (Map.Entry<String, LongAdder> command
+                    : counters.byCommand.entrySet()) {
+                line.append(command.getKey()).append('=')
+                        .append(command.getValue().sum()).append(',');
+            }
+            part.println(line);
+        }
+    }
+
+    /**
+     * Add counters saved by worker JVMs.
+     */
+    public static void mergeParts() {
+        Reports.mergeParts(SUMMARY, CommandStatistics::merge);
+    }
+
+    /**
+     * Add counters of the saved part.
+     *
+     * @param lines lines of the part
+     */
+    private static void merge(final List<String> lines) {
+        for (String line : lines) {
+            final String[] fields = line.split(" ", FIELDS);
+            if (fields.length < FIELDS) {
+                continue;
+            }
+            Map<String, Counters> map = STEPS;
+            if ("story".equals(fields[0])) {
+                map = STORIES;
+            }
+            final Counters counters = counters(map,
+                    Reports.decode(fields[1]));
+            counters.invocations.add(Long.parseLong(fields[2]));
+            counters.commands.add(Long.parseLong(fields[COMMANDS_FIELD]));
+            counters.nanos.add(Long.parseLong(fields[NANOS_FIELD]));
+            for (String command : fields[BY_COMMAND_FIELD].split(",")) {
+                final int equals = command.indexOf('=');
+                if (equals > 0) {
+                    counters.byCommand.computeIfAbsent(
+                            command.substring(0, equals),
+                            (String name) -> new LongAdder())
+                            .add(Long.parseLong(
+                                    command.substring(equals + 1)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Forget counters, so the next run starts a new summary.
+     */
+    public static void reset() {
+        STEPS.clear();
+        STORIES.clear();
+    }
+
+    /**
+     * Write entries ranked by number of commands.
+     *
+     * @param json  JSON writer
+     * @param csv   CSV writer
+     * @param scope entries scope
+     * @param map   counters by name
+     */
+    private static void write(final PrintWriter json, final PrintWriter csv,
+                              final String scope,
+                              final Map<String, Counters> map) {
+        final List<Map.Entry<String, Counters>> ranked =
+                new ArrayList<>(map.entrySet());
+        ranked.sort(Comparator.comparingLong(
+                (Map.Entry<String, Counters> entry) ->
+                        -entry.getValue().commands.sum()));
+        int index = 0;
+        for (Map.Entry<String, Counters> entry : ranked) {
+            final Counters counters = entry.getValue();
+            final long invocations = counters.invocations.sum();
+            final long commands = counters.commands.sum();
+            final String perInvocation = perInvocation(commands, invocations);
+            final String millis = String.format(Locale.ROOT, "%.3f",
+                    counters.nanos.sum() / NANOS);
+            final String top = counters.top();
+            csv.println(scope + ',' + Reports.csv(entry.getKey()) + ','
+                    + invocations + ',' + commands + ',' + perInvocation
+                    + ',' + millis + ',' + Reports.csv(top));
+            json.print("  {\"name\": " + Reports.quote(entry.getKey())
+                    + ", \"invocations\": " + invocations
+                    + ", \"commands\": " + commands
+                    + ", \"commands_per_invocation\": " + perInvocation
+                    + ", \"command_ms\": " + millis
+                    + ", \"top_commands\": " + Reports.quote(top));
+            index++;
+            if (index < ranked.size()) {
+                json.println("},");
+            } else {
+                json.println("}");
+            }
+        }
+    }
+
+    /**
+     * Format average number of commands per invocation.
+     *
+     * @param commands    number of commands
+     * @param invocations number of invocations
+     * @return formatted average
+     */
+    private static String perInvocation(final long commands,
+                                        final long invocations) {
+        double average = commands;
+        if (invocations > 0) {
+            average = (double) commands / invocations;
+        }
+        return String.format(Locale.ROOT, "%.1f", average);
+    }
+
+    /**
+     * Command counters of a step or story.
+     */
+    private static final class Counters {
+        /**
+         * Number of step or story executions.
+         */
+        private final LongAdder invocations = new LongAdder();
+        /**
+         * Number of commands.
+         */
+        private final LongAdder commands = new LongAdder();
+        /**
+         * Commands round trip time.
+         */
+        private final LongAdder nanos = new LongAdder();
+        /**
+         * Number of commands by command name.
+         */
+        private final Map<String, LongAdder> byCommand =
+                new ConcurrentHashMap<>();
+
+        /**
+         * Record command.
+         *
+         * @param command command name
+         * @param time    round trip time in nanoseconds
+         */
+        private void record(final String command, final long time) {
+            commands.increment();
+            nanos.add(time);
+            byCommand.computeIfAbsent(command, (String name) ->
+                    new LongAdder()).increment();
+        }
+
+        /**
+         * Gets most frequent commands.
+         *
+         * @return commands with counts separated by space
+         */
+        private String top() {
+            return byCommand.entrySet().stream()
+                    .sorted(Comparator.comparingLong(
+                            (Map.Entry<String, LongAdder> entry) ->
+                                    -entry.getValue().sum()))
+                    .limit(TOP_COMMANDS)
+                    .map((Map.Entry<String, LongAdder> entry) ->
+                            entry.getKey() + '=' + entry.getValue().sum())
+                    .collect(Collectors.joining(" "));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * CSV summary in the JBehave reports directory that is appended in batches,
+ * so rows of long running JVMs are not kept in memory. Summary is created
+ * with header by the first flush of the run, rows left in buffer are
+ * flushed when the run ends. Worker JVM of the coordinator appends rows to
+ * its part of the summary, which the coordinator merges.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+final class CsvSummary {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(CsvSummary.class.getName());
+    /**
+     * Quantity of the buffered rows that are flushed together.
+     */
+    private static final int BATCH = 1000;
+    /**
+     * Summary file name.
+     */
+    private final String name;
+    /**
+     * Header line.
+     */
+    private final String header;
+    /**
+     * Buffered rows.
+     */
+    private final Queue<String> rows = new ConcurrentLinkedQueue<>();
+    /**
+     * Quantity of the buffered rows.
+     */
+    private final AtomicInteger buffered = new AtomicInteger();
+    /**
+     * Flag that summary file is created, guarded by this summary.
+     */
+    private boolean created;
+
+    /**
+     * Create summary.
+     *
+     * @param fileName   summary file name
+     * @param headerLine header line
+     */
+    CsvSummary(final String fileName, final String headerLine) {
+        name = fileName;
+        header = headerLine;
+    }
+
+    /**
+     * Add row and flush buffer when batch is full.
+     *
+     * @param row CSV line
+     */
+    void add(final String row) {
+        rows.add(row);
+        if (buffered.incrementAndGet() >= BATCH) {
+            flush();
+        }
+    }
+
+    /**
+     * Append buffered rows to summary.
+     */
+    synchronized void flush() {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try (PrintWriter csv = Reports.open(Reports.part(name), created)) {
+            if (!created) {
+                csv.println(header);
+                created = true;
+            }
+            String row = rows.poll();
+            while (row != null) {
+                buffered.decrementAndGet();
+                csv.println(row);
+                row = rows.poll();
+            }
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot write " + name, e);
+        }
+    }
+
+    /**
+     * Drop buffered rows, so the next run creates a new summary.
+     */
+    synchronized void reset() {
+        rows.clear();
+        buffered.set(0);
+        created = false;
+    }
+
+    /**
+     * Append rows of the parts written by worker JVMs.
+     */
+    void mergeParts() {
+        Reports.mergeParts(name, (List<String> lines) -> {
+            for (int i = 1; i < lines.size(); i++) {
+                add(lines.get(i));
+            }
+        });
+        flush();
+    }
+
+    /**
+     * Delete parts left by worker JVMs of a previous run.
+     */
+    void discardParts() {
+        Reports.mergeParts(name, (List<String> lines) -> { });
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+/**
+ * Path of the story running in current thread, maintained by
+ * {@link CommandReporter}.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class CurrentStory {
+    /**
+     * Story path running in current thread.
+     */
+    private static final ThreadLocal<String> PATH = new ThreadLocal<>();
+
+    /**
+     * For non-instantiability.
+     */
+    private CurrentStory() {
+        super();
+    }
+
+    /**
+     * Gets path of the story running in current thread.
+     *
+     * @return story path or null outside of stories
+     */
+    public static String path() {
+        return PATH.get();
+    }
+
+    /**
+     * Set path of the story running in current thread.
+     *
+     * @param path story path
+     */
+    static void set(final String path) {
+        PATH.set(path);
+    }
+
+    /**
+     * Clear story of current thread.
+     */
+    static void clear() {
+        PATH.remove();
+    }
+}
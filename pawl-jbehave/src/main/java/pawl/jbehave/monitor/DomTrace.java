@@ -0,0 +1,265 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import pawl.webdriver.DomSnapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Rolling trace of the last steps of the story running in current thread,
+ * each step with DOM snapshot of the page after it. When a step fails the
+ * trace is written as self-contained JSON file into <code>traces</code>
+ * directory of the JBehave reports together with
+ * <code>trace-viewer.html</code> that steps through the trace.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class DomTrace {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(DomTrace.class.getName());
+    /**
+     * Traces directory in reports.
+     */
+    private static final String DIRECTORY = "traces";
+    /**
+     * Name of the trace viewer.
+     */
+    private static final String VIEWER = "trace-viewer.html";
+    /**
+     * Steps of the story in current thread.
+     */
+    private static final ThreadLocal<Deque<Step>> STEPS =
+            ThreadLocal.withInitial(ArrayDeque::new);
+    /**
+     * Scenario running in current thread.
+     */
+    private static final ThreadLocal<String> SCENARIO = new ThreadLocal<>();
+
+    /**
+     * For non-instantiability.
+     */
+    private DomTrace() {
+        super();
+    }
+
+    /**
+     * Forget steps of the previous story.
+     */
+    public static void reset() {
+        STEPS.remove();
+        SCENARIO.remove();
+    }
+
+    /**
+     * Check that trace has no snapshot yet, so the next one should be
+     * captured even if page did not change.
+     *
+     * @return true if trace is empty
+     */
+    public static boolean isEmpty() {
+        return STEPS.get().isEmpty();
+    }
+
+    /**
+     * Start scenario.
+     *
+     * @param title scenario title
+     */
+    public static void scenario(final String title) {
+        SCENARIO.set(title);
+    }
+
+    /**
+     * Record executed step, oldest steps are dropped when trace is full.
+     *
+     * @param step     step text
+     * @param status   step status
+     * @param snapshot page snapshot or null if page did not change
+     * @param error    failure message or null
+     * @param capacity maximum number of steps in trace
+     */
+    public static void record(final String step, final String status,
+                              final DomSnapshot snapshot, final String error,
+                              final int capacity) {
+        final Deque<Step> steps = STEPS.get();
+        DomSnapshot page = snapshot;
+        if (page == null && !steps.isEmpty()) {
+            page = steps.peekLast().snapshot;
+        }
+        steps.addLast(new Step(step, status, page, error, SCENARIO.get()));
+        while (steps.size() > capacity) {
+            steps.removeFirst();
+        }
+    }
+
+    /**
+     * Write trace of the story in current thread.
+     *
+     * @param story story path
+     * @return trace file or null if it cannot be written
+     */
+    public static File write(final String story) {
+        final File directory = new File(Reports.directory(), DIRECTORY);
+        final File file = new File(directory, "trace-"
+                + new File(story).getName().replaceAll("[^\\w.-]", "_")
+                + "-" + System.currentTimeMillis() + ".json");
+        try {
+            Files.createDirectories(directory.toPath());
+            copyViewer(new File(directory, VIEWER));
+            try (PrintWriter json = Reports.open(DIRECTORY + "/"
+                    + file.getName())) {
+                json.print("{\"story\":" + Reports.quote(story)
+                        + ",\"steps\":[");
+                final Map<DomSnapshot, Integer> written =
+                        new IdentityHashMap<>();
+                int index = 0;
+                for (Step step : STEPS.get()) {
+                    if (index > 0) {
+                        json.print(',');
+                    }
+                    step.write(json, index, written);
+                    index++;
+                }
+                json.println("]}");
+            }
+            LOG.info("Failure trace: " + file);
+            return file;
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot write failure trace", e);
+            return null;
+        }
+    }
+
+    /**
+     * Copy trace viewer shipped with pawl next to the traces.
+     *
+     * @param viewer viewer file
+     * @throws IOException if viewer cannot be copied
+     */
+    private static void copyViewer(final File viewer) throws IOException {
+        if (viewer.isFile()) {
+            return;
+        }
+        try (InputStream in = DomTrace.class.getResourceAsStream(VIEWER)) {
+            if (in != null) {
+                Files.copy(in, viewer.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    /**
+     * Executed step with page snapshot.
+     */
+    private static final class Step {
+        /**
+         * Step text.
+         */
+        private final String text;
+        /**
+         * Step status.
+         */
+        private final String status;
+        /**
+         * Page after the step.
+         */
+        private final DomSnapshot snapshot;
+        /**
+         * Failure message.
+         */
+        private final String error;
+        /**
+         * Scenario title.
+         */
+        private final String scenario;
+        /**
+         * Time of the step end.
+         */
+        private final Instant time = Instant.now();
+
+        /**
+         * Create step.
+         *
+         * @param stepText     step text
+         * @param stepStatus   step status
+         * @param page         page after the step
+         * @param failure      failure message
+         * @param scenarioName scenario title
+         */
+        Step(final String stepText, final String stepStatus,
+             final DomSnapshot page, final String failure,
+             final String scenarioName) {
+            text = stepText;
+            status = stepStatus;
+            snapshot = page;
+            error = failure;
+            scenario = scenarioName;
+        }
+
+        /**
+         * Write step as JSON object. Snapshot written by a previous step is
+         * referenced by the step index.
+         *
+         * @param json    output
+         * @param index   step index
+         * @param written indexes of the steps with written snapshots
+         */
+        void write(final PrintWriter json, final int index,
+                   final Map<DomSnapshot, Integer> written) {
+            json.print("{\"step\":" + Reports.quote(text)
+                    + ",\"status\":" + Reports.quote(status)
+                    + ",\"time\":" + Reports.quote(time.toString()));
+            if (scenario != null) {
+                json.print(",\"scenario\":" + Reports.quote(scenario));
+            }
+            if (error != null) {
+                json.print(",\"error\":" + Reports.quote(error));
+            }
+            if (snapshot != null) {
+                final Integer same = written.get(snapshot);
+                if (same == null) {
+                    written.put(snapshot, index);
+                    json.print(",\"url\":" + Reports.quote(snapshot.getUrl())
+                            + ",\"title\":" + Reports.quote(snapshot.getTitle())
+                            + ",\"html\":" + Reports.quote(snapshot.getHtml())
+                            + ",\"css\":" + Reports.quote(snapshot.getCss()));
+                } else {
+                    json.print(",\"same\":" + same);
+                }
+            }
+            json.print('}');
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import org.jbehave.core.model.OutcomesTable;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.reporters.NullStoryReporter;
+import org.jbehave.web.selenium.DelegatingWebDriverProvider;
+import org.jbehave.web.selenium.WebDriverProvider;
+import org.openqa.selenium.WebDriverException;
+import pawl.util.Resources;
+import pawl.webdriver.DomSnapshot;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Story reporter that captures DOM snapshot of the story browser after each
+ * executed step into {@link DomTrace} when <code>dom.trace</code> is enabled
+ * and writes the trace when a step fails. Snapshots of the pages that did
+ * not change since the previous step are not transferred again.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class DomTraceReporter extends NullStoryReporter {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(DomTraceReporter.class.getName());
+    /**
+     * Status of the passed step.
+     */
+    private static final String SUCCESSFUL = "successful";
+    /**
+     * Status of the failed step.
+     */
+    private static final String FAILED = "failed";
+    /**
+     * Characters in kilobyte.
+     */
+    private static final int KILOBYTE = 1024;
+    /**
+     * Story running in current thread.
+     */
+    private static final ThreadLocal<String> STORY = new ThreadLocal<>();
+    /**
+     * Provider of the story browsers.
+     */
+    private final WebDriverProvider driverProvider;
+    /**
+     * Flag that trace is enabled.
+     */
+    private final boolean enabled = Resources.base().domTrace();
+    /**
+     * Maximum number of steps in trace.
+     */
+    private final int capacity = Resources.base().domTraceSteps();
+    /**
+     * Maximum length of snapshot HTML and styles.
+     */
+    private final int maxChars = Resources.base().domTraceMaxKb() * KILOBYTE;
+
+    /**
+     * Create reporter.
+     *
+     * @param provider provider of the story browsers
+     */
+    public DomTraceReporter(final WebDriverProvider provider) {
+        super();
+        driverProvider = provider;
+    }
+
+    @Override
+    public void beforeStory(final Story story, final boolean givenStory) {
+        if (!givenStory) {
+            DomTrace.reset();
+            STORY.set(story.getPath());
+        }
+    }
+
+    @Override
+    public void afterStory(final boolean givenStory) {
+        if (!givenStory) {
+            DomTrace.reset();
+            STORY.remove();
+        }
+    }
+
+    @Override
+    public void beforeScenario(final String scenarioTitle) {
+        DomTrace.scenario(scenarioTitle);
+    }
+
+    @Override
+    public void successful(final String step) {
+        record(step, SUCCESSFUL, null);
+    }
+
+    @Override
+    public void failed(final String step, final Throwable cause) {
+        Throwable failure = cause;
+        if (failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        record(step, FAILED, failure.toString());
+    }
+
+    @Override
+    public void failedOutcomes(final String step, final OutcomesTable table) {
+        record(step, FAILED, "Outcomes failed");
+    }
+
+    /**
+     * Capture snapshot after the step and write trace when step failed.
+     *
+     * @param step   executed step
+     * @param status step status
+     * @param error  failure message or null
+     */
+    private void record(final String step, final String status,
+                        final String error) {
+        if (!enabled) {
+            return;
+        }
+        DomSnapshot snapshot = null;
+        try {
+            snapshot = DomSnapshot.capture(driverProvider.get(), maxChars,
+                    DomTrace.isEmpty());
+        } catch (DelegatingWebDriverProvider.DelegateWebDriverNotFound e) {
+            LOG.log(Level.FINEST, "No browser to capture", e);
+        } catch (WebDriverException | ClassCastException e) {
+            LOG.log(Level.FINE, "DOM snapshot is not captured", e);
+        }
+        DomTrace.record(step, status, snapshot, error, capacity);
+        final String story = STORY.get();
+        if (error != null && story != null) {
+            DomTrace.write(story);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+/**
+ * Kinds of flight recorder events.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public enum EventKind {
+    /**
+     * Execution of a story.
+     */
+    STORY,
+    /**
+     * Execution of a step.
+     */
+    STEP,
+    /**
+     * Explicit wait for a page condition.
+     */
+    WAIT,
+    /**
+     * Wait for an email message.
+     */
+    MAIL_WAIT,
+    /**
+     * Creation of a browser driver.
+     */
+    DRIVER_CREATION,
+    /**
+     * Round trip of a browser driver command.
+     */
+    DRIVER_COMMAND
+}
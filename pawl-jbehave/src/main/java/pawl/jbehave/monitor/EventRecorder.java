@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+/**
+ * Recorder of the flight recorder events. Implementation is compiled only
+ * when JFR API is available and loaded by {@link FlightEvents}.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public interface EventRecorder {
+    /**
+     * Begin event in current thread.
+     *
+     * @param kind    event kind
+     * @param subject event subject
+     */
+    void begin(EventKind kind, String subject);
+
+    /**
+     * Commit event opened in current thread.
+     *
+     * @param kind    event kind
+     * @param outcome event result
+     */
+    void end(EventKind kind, String outcome);
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import pawl.util.Resources;
+import pawl.webdriver.CommandListener;
+import pawl.webdriver.DriverCommands;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Emits Java Flight Recorder events of stories, steps, waits and drivers.
+ * Events are emitted only when <code>jfr.events</code> property is enabled,
+ * JFR is present in the running JVM and the recorder was compiled by the
+ * <code>jfr</code> build profile; otherwise all calls return immediately.
+ * The recorder is loaded reflectively, so the module still builds and runs
+ * on Java 8. Events of types disabled in the running recording are not
+ * created.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class FlightEvents {
+    /**
+     * Outcome of the finished action.
+     */
+    public static final String OK = "ok";
+    /**
+     * Outcome of the action that failed.
+     */
+    public static final String FAILED = "failed";
+    /**
+     * Outcome of the pending step.
+     */
+    public static final String PENDING = "pending";
+    /**
+     * Outcome of the wait that ran out of time.
+     */
+    public static final String TIMEOUT = "timeout";
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(FlightEvents.class.getName());
+    /**
+     * Name of the recorder class compiled against JFR API.
+     */
+    private static final String RECORDER_CLASS =
+            "pawl.jbehave.monitor.jfr.Recorder";
+    /**
+     * Event recorder or null if events are not emitted.
+     */
+    private static final EventRecorder RECORDER = recorder();
+    /**
+     * Flag that events are emitted.
+     */
+    private static final boolean ENABLED = RECORDER != null;
+
+    static {
+        if (ENABLED) {
+            DriverCommands.addListener(new CommandListener() {
+                @Override
+                public void beforeCommand(final String command) {
+                    RECORDER.begin(EventKind.DRIVER_COMMAND, command);
+                }
+
+                @Override
+                public void afterCommand(final String command,
+                                         final long nanos,
+                                         final Throwable failure) {
+                    RECORDER.end(EventKind.DRIVER_COMMAND,
+                            outcome(failure));
+                }
+            });
+        }
+    }
+
+    /**
+     * For non-instantiability.
+     */
+    private FlightEvents() {
+        super();
+    }
+
+    /**
+     * Gets flag that events are emitted.
+     *
+     * @return true if JFR events are emitted
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Begin event in current thread.
+     *
+     * @param kind    event kind
+     * @param subject story path, step text, condition or command name
+     */
+    public static void begin(final EventKind kind, final String subject) {
+        if (ENABLED) {
+            RECORDER.begin(kind, subject);
+        }
+    }
+
+    /**
+     * Commit event opened in current thread.
+     *
+     * @param kind    event kind
+     * @param outcome event result
+     */
+    public static void end(final EventKind kind, final String outcome) {
+        if (ENABLED) {
+            RECORDER.end(kind, outcome);
+        }
+    }
+
+    /**
+     * Convert failure to outcome.
+     *
+     * @param failure failure or null
+     * @return outcome
+     */
+    public static String outcome(final Throwable failure) {
+        if (failure == null) {
+            return OK;
+        }
+        return failure.getClass().getSimpleName();
+    }
+
+    /**
+     * Load recorder when events are enabled and JFR is present.
+     *
+     * @return recorder or null if events should not be emitted
+     */
+    private static EventRecorder recorder() {
+        if (!Resources.base().flightEvents()) {
+            return null;
+        }
+        final ClassLoader loader = FlightEvents.class.getClassLoader();
+        try {
+            Class.forName("jdk.jfr.Event", false, loader);
+            return Class.forName(RECORDER_CLASS, true, loader)
+                    .asSubclass(EventRecorder.class)
+                    .getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOG.log(Level.WARNING, "Flight recorder is not available", e);
+            return null;
+        }
+    }
+}
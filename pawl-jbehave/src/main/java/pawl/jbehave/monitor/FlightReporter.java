@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import org.jbehave.core.model.OutcomesTable;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.reporters.NullStoryReporter;
+
+/**
+ * Story reporter that emits flight recorder events of stories and steps.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class FlightReporter extends NullStoryReporter {
+    /**
+     * Flag that running story has failed steps.
+     */
+    private final ThreadLocal<Boolean> failed =
+            ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    @Override
+    public void beforeStory(final Story story, final boolean givenStory) {
+        if (!givenStory) {
+            failed.set(Boolean.FALSE);
+            FlightEvents.begin(EventKind.STORY, story.getPath());
+        }
+    }
+
+    @Override
+    public void afterStory(final boolean givenStory) {
+        if (givenStory) {
+            return;
+        }
+        if (failed.get()) {
+            FlightEvents.end(EventKind.STORY, FlightEvents.FAILED);
+        } else {
+            FlightEvents.end(EventKind.STORY, FlightEvents.OK);
+        }
+        failed.remove();
+    }
+
+    @Override
+    public void beforeStep(final String step) {
+        FlightEvents.begin(EventKind.STEP, step);
+    }
+
+    @Override
+    public void successful(final String step) {
+        FlightEvents.end(EventKind.STEP, FlightEvents.OK);
+    }
+
+    @Override
+    public void failed(final String step, final Throwable cause) {
+        failed.set(Boolean.TRUE);
+        FlightEvents.end(EventKind.STEP, FlightEvents.FAILED);
+    }
+
+    @Override
+    public void failedOutcomes(final String step, final OutcomesTable table) {
+        failed.set(Boolean.TRUE);
+        FlightEvents.end(EventKind.STEP, FlightEvents.FAILED);
+    }
+
+    @Override
+    public void pending(final String step) {
+        FlightEvents.end(EventKind.STEP, FlightEvents.PENDING);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import org.jbehave.core.model.Story;
+import org.jbehave.core.reporters.NullStoryReporter;
+import org.jbehave.web.selenium.DelegatingWebDriverProvider;
+import org.jbehave.web.selenium.WebDriverProvider;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import pawl.util.Resources;
+import pawl.webdriver.HeapSample;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Story reporter that samples JavaScript heap of the browser after each
+ * executed step into {@link HeapSeries} when <code>js.heap.sampling</code>
+ * is enabled. Steps without opened browser are skipped.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class HeapReporter extends NullStoryReporter {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(HeapReporter.class.getName());
+    /**
+     * Provider of the story browsers.
+     */
+    private final WebDriverProvider driverProvider;
+    /**
+     * Flag that sampling is enabled.
+     */
+    private final boolean enabled = Resources.base().jsHeapSampling();
+
+    /**
+     * Create reporter.
+     *
+     * @param provider provider of the story browsers
+     */
+    public HeapReporter(final WebDriverProvider provider) {
+        super();
+        driverProvider = provider;
+    }
+
+    @Override
+    public void beforeStory(final Story story, final boolean givenStory) {
+        if (!givenStory) {
+            HeapSeries.reset();
+        }
+    }
+
+    @Override
+    public void afterStory(final boolean givenStory) {
+        if (!givenStory) {
+            HeapSeries.reset();
+        }
+    }
+
+    @Override
+    public void successful(final String step) {
+        sample(step);
+    }
+
+    @Override
+    public void failed(final String step, final Throwable cause) {
+        sample(step);
+    }
+
+    /**
+     * Sample heap of the story browser.
+     *
+     * @param step executed step
+     */
+    private void sample(final String step) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            final WebDriver driver = driverProvider.get();
+            HeapSeries.record(step, HeapSample.take(driver));
+        } catch (DelegatingWebDriverProvider.DelegateWebDriverNotFound e) {
+            LOG.log(Level.FINEST, "No browser to sample", e);
+        } catch (WebDriverException e) {
+            LOG.log(Level.FINE, "JS heap is not sampled", e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import pawl.webdriver.HeapSample;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Series of JavaScript heap samples taken after steps of the story running
+ * in current thread, with named checkpoints. Samples of all stories are
+ * appended in batches to <code>pawl-js-heap.csv</code> in the JBehave
+ * reports directory.
+ *
+ * @author Alex Voloshyn
+ * @version 1.2 10/19/26
+ */
+public final class HeapSeries {
+    /**
+     * Samples summary.
+     */
+    private static final CsvSummary SUMMARY = new CsvSummary(
+            "pawl-js-heap.csv", "story,index,step,used_heap_bytes,dom_nodes");
+    /**
+     * Checkpoints of the story running in current thread.
+     */
+    private static final ThreadLocal<Map<String, HeapSample>> CHECKPOINTS =
+            ThreadLocal.withInitial(HashMap::new);
+    /**
+     * Index of the next sample in current story.
+     */
+    private static final ThreadLocal<int[]> INDEX =
+            ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * For non-instantiability.
+     */
+    private HeapSeries() {
+        super();
+    }
+
+    /**
+     * Start series of the new story in current thread.
+     */
+    public static void reset() {
+        CHECKPOINTS.remove();
+        INDEX.remove();
+    }
+
+    /**
+     * Record sample taken after step.
+     *
+     * @param step   step text
+     * @param sample heap sample
+     */
+    public static void record(final String step, final HeapSample sample) {
+        String story = CurrentStory.path();
+        if (story == null) {
+            story = "";
+        }
+        final int index = INDEX.get()[0]++;
+        SUMMARY.add(Reports.csv(story) + ',' + index + ','
+                + Reports.csv(step) + ',' + sample.getUsedHeap() + ','
+                + sample.getDomNodes());
+    }
+
+    /**
+     * Remember sample as named checkpoint of current story.
+     *
+     * @param name   checkpoint name
+     * @param sample heap sample
+     */
+    public static void checkpoint(final String name, final HeapSample sample) {
+        CHECKPOINTS.get().put(name, sample);
+    }
+
+    /**
+     * Gets named checkpoint of current story.
+     *
+     * @param name checkpoint name
+     * @return heap sample or null if checkpoint was not marked
+     */
+    public static HeapSample checkpoint(final String name) {
+        return CHECKPOINTS.get().get(name);
+    }
+
+    /**
+     * Gets summary of all stories.
+     *
+     * @return CSV summary
+     */
+    static CsvSummary summary() {
+        return SUMMARY;
+    }
+}
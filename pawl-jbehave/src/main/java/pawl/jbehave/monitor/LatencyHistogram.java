@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free latency histogram with log-linear buckets of microseconds.
+ * Each power of two range is split to 32 buckets, so percentiles have
+ * relative error below 4%. State of the histogram can be saved as text and
+ * merged into histogram of another JVM.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class LatencyHistogram {
+    /**
+     * Bits of the sub-bucket index.
+     */
+    private static final int SUB_BITS = 5;
+    /**
+     * Quantity of sub-buckets in power of two range.
+     */
+    private static final int SUB = 1 << SUB_BITS;
+    /**
+     * Highest power of two of the recorded value, about 12 days.
+     */
+    private static final int MAX_EXPONENT = 40;
+    /**
+     * Quantity of buckets.
+     */
+    private static final int BUCKETS = SUB + (MAX_EXPONENT - SUB_BITS) * SUB;
+    /**
+     * Percents in one.
+     */
+    private static final double PERCENTS = 100.0;
+    /**
+     * Index of the first bucket in saved state.
+     */
+    private static final int FIRST_BUCKET = 3;
+    /**
+     * Counts by bucket.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    /**
+     * Quantity of recorded values.
+     */
+    private final LongAdder count = new LongAdder();
+    /**
+     * Sum of recorded values in microseconds.
+     */
+    private final LongAdder sum = new LongAdder();
+    /**
+     * Maximum recorded value in microseconds.
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record value.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    public void record(final long nanos) {
+        final long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        counts.incrementAndGet(index(micros));
+        count.increment();
+        sum.add(micros);
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Gets quantity of recorded values.
+     *
+     * @return quantity
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Gets mean value.
+     *
+     * @return mean in microseconds
+     */
+    public long mean() {
+        final long total = count();
+        if (total == 0) {
+            return 0;
+        }
+        return sum.sum() / total;
+    }
+
+    /**
+     * Gets maximum value.
+     *
+     * @return maximum in microseconds
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Gets value at percentile. Value is the middle of the bucket.
+     *
+     * @param percentile from 0 to 100
+     * @return value in microseconds
+     */
+    public long percentile(final double percentile) {
+        final long total = count();
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1,
+                (long) Math.ceil(percentile / PERCENTS * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min((lowest(i) + lowest(i + 1)) / 2, max());
+            }
+        }
+        return max();
+    }
+
+    /**
+     * Gets state of the histogram as text.
+     *
+     * @return count, sum, maximum and non-empty buckets separated by spaces
+     */
+    String save() {
+        final StringBuilder state = new StringBuilder().append(count())
+                .append(' ').append(sum.sum()).append(' ').append(max());
+        for (int i = 0; i < BUCKETS; i++) {
+            final long bucket = counts.get(i);
+            if (bucket > 0) {
+                state.append(' ').append(i).append(':').append(bucket);
+            }
+        }
+        return state.toString();
+    }
+
+    /**
+     * Add values of the histogram saved by {@link #save()}.
+     *
+     * @param state saved state
+     */
+    void merge(final String state) {
+        final String[] parts = state.trim().split(" ");
+        count.add(Long.parseLong(parts[0]));
+        sum.add(Long.parseLong(parts[1]));
+        max.accumulateAndGet(Long.parseLong(parts[2]), Math::max);
+        for (int i = FIRST_BUCKET; i < parts.length; i++) {
+            final int colon = parts[i].indexOf(':');
+            counts.addAndGet(Integer.parseInt(parts[i].substring(0, colon)),
+                    Long.parseLong(parts[i].substring(colon + 1)));
+        }
+    }
+
+    /**
+     * Gets bucket index of the value.
+     *
+     * @param micros value in microseconds
+     * @return bucket index
+     */
+    static int index(final long micros) {
+        if (micros < SUB) {
+            return (int) micros;
+        }
+        final int exponent = Math.min(MAX_EXPONENT - 1,
+                Long.SIZE - 1 - Long.numberOfLeadingZeros(micros));
+        final int sub = (int) Math.min(SUB - 1,
+                (micros >>> (exponent - SUB_BITS)) - SUB);
+        return SUB + (exponent - SUB_BITS) * SUB + sub;
+    }
+
+    /**
+     * Gets lowest value of the bucket.
+     *
+     * @param index bucket index
+     * @return value in microseconds
+     */
+    static long lowest(final int index) {
+        if (index < SUB) {
+            return index;
+        }
+        final int exponent = (index - SUB) / SUB;
+        final int sub = (index - SUB) % SUB;
+        return (long) (SUB + sub) << exponent;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import pawl.util.Resources;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes spans in OTLP JSON format as <code>pawl-trace-DATE.json</code>
+ * into the JBehave reports directory. When <code>trace.collector</code>
+ * property holds URL, like <code>http://localhost:4318/v1/traces</code>,
+ * the same document is posted to the collector.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+final class OtlpExporter {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(OtlpExporter.class.getName());
+    /**
+     * OTLP internal span kind.
+     */
+    private static final int SPAN_KIND_INTERNAL = 1;
+    /**
+     * OTLP status code of succeeded span.
+     */
+    private static final int STATUS_OK = 1;
+    /**
+     * OTLP status code of failed span.
+     */
+    private static final int STATUS_ERROR = 2;
+    /**
+     * Collector connection and read timeout in milliseconds.
+     */
+    private static final int TIMEOUT = 5000;
+
+    /**
+     * For non-instantiability.
+     */
+    private OtlpExporter() {
+        super();
+    }
+
+    /**
+     * Export spans to file and optional collector.
+     *
+     * @param spans finished spans
+     */
+    static void export(final List<Span> spans) {
+        final String document = document(spans);
+        final String name = "pawl-trace-" + new SimpleDateFormat(
+                Resources.base().dateFormat()).format(new Date()) + ".json";
+        try (PrintWriter writer = Reports.open(name)) {
+            writer.print(document);
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot write trace", e);
+        }
+        final String collector = Resources.base().traceCollector();
+        if (!collector.isEmpty()) {
+            post(collector, document);
+        }
+    }
+
+    /**
+     * Post document to collector.
+     *
+     * @param collector collector URL
+     * @param document  OTLP JSON document
+     */
+    private static void post(final String collector, final String document) {
+        try {
+            final HttpURLConnection connection =
+                    (HttpURLConnection) new URL(collector).openConnection();
+            connection.setConnectTimeout(TIMEOUT);
+            connection.setReadTimeout(TIMEOUT);
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(document.getBytes(StandardCharsets.UTF_8));
+            }
+            final int code = connection.getResponseCode();
+            if (code != HttpURLConnection.HTTP_OK) {
+                LOG.warning("Collector " + collector + " responded " + code);
+            }
+            connection.disconnect();
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot post trace to " + collector, e);
+        }
+    }
+
+    /**
+     * Build OTLP JSON document.
+     *
+     * @param spans finished spans
+     * @return JSON document
+     */
+    static String document(final List<Span> spans) {
+        final StringBuilder json = new StringBuilder("{\"resourceSpans\": [{")
+                .append("\"resource\": {\"attributes\": [")
+                .append(attribute("service.name", "pawl"))
+                .append("]}, \"scopeSpans\": [{\"scope\": {\"name\": ")
+                .append("\"pawl\"}, \"spans\": [\n");
+        for (int i = 0; i < spans.size(); i++) {
+            if (i > 0) {
+                json.append(",\n");
+            }
+            span(json, spans.get(i));
+        }
+        return json.append("\n]}]}]}\n").toString();
+    }
+
+    /**
+     * Append span object.
+     *
+     * @param json builder
+     * @param span span to append
+     */
+    private static void span(final StringBuilder json, final Span span) {
+        String parentId = "";
+        if (span.getParent() != null) {
+            parentId = span.getParent().getSpanId();
+        }
+        int status = STATUS_OK;
+        if (span.isFailed()) {
+            status = STATUS_ERROR;
+        }
+        json.append("{\"traceId\": \"").append(span.getTraceId())
+                .append("\", \"spanId\": \"").append(span.getSpanId())
+                .append("\", \"parentSpanId\": \"").append(parentId)
+                .append("\", \"name\": ").append(Reports.quote(span.getName()))
+                .append(", \"kind\": ").append(SPAN_KIND_INTERNAL)
+                .append(", \"startTimeUnixNano\": \"").append(span.getStart())
+                .append("\", \"endTimeUnixNano\": \"").append(span.getEnd())
+                .append("\", \"attributes\": [")
+                .append(attribute("pawl.kind", span.getKind()));
+        for (Map.Entry<String, String> entry
+                : span.getAttributes().entrySet()) {
+            json.append(", ")
+                    .append(attribute(entry.getKey(), entry.getValue()));
+        }
+        json.append("], \"status\": {\"code\": ").append(status).append("}}");
+    }
+
+    /**
+     * Format string attribute.
+     *
+     * @param key   attribute key
+     * @param value attribute value
+     * @return JSON attribute
+     */
+    private static String attribute(final String key, final String value) {
+        return "{\"key\": " + Reports.quote(key)
+                + ", \"value\": {\"stringValue\": " + Reports.quote(value)
+                + "}}";
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import pawl.webdriver.PageTiming;
+import pawl.webdriver.ThrottlingProfile;
+
+import java.util.logging.Logger;
+
+/**
+ * Page load metrics captured during stories with the applied throttling
+ * profile. Metrics of all pages are appended in batches to
+ * <code>pawl-page-timings.csv</code> in the JBehave reports directory.
+ *
+ * @author Alex Voloshyn
+ * @version 1.4 10/19/26
+ */
+public final class PageTimings {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(PageTimings.class.getName());
+    /**
+     * Page timings summary.
+     */
+    private static final CsvSummary SUMMARY = new CsvSummary(
+            "pawl-page-timings.csv", "story,url,throttling,ttfb_ms,"
+            + "dom_content_loaded_ms,load_ms,fcp_ms,lcp_ms,transfer_bytes,"
+            + "resources");
+    /**
+     * Story of the pages opened outside of stories.
+     */
+    private static final String NO_STORY = "";
+    /**
+     * Timings of the last opened page in current thread.
+     */
+    private static final ThreadLocal<PageTiming> LAST = new ThreadLocal<>();
+
+    /**
+     * For non-instantiability.
+     */
+    private PageTimings() {
+        super();
+    }
+
+    /**
+     * Record timings of the opened page.
+     *
+     * @param timing page timing
+     */
+    public static void record(final PageTiming timing) {
+        LAST.set(timing);
+        String story = CurrentStory.path();
+        if (story == null) {
+            story = NO_STORY;
+        }
+        SUMMARY.add(Reports.csv(story) + ',' + Reports.csv(timing.getUrl())
+                + ',' + Reports.csv(ThrottlingProfile.selected().getName())
+                + ',' + timing.getTimeToFirstByte()
+                + ',' + timing.getDomContentLoaded()
+                + ',' + timing.getLoad()
+                + ',' + timing.getFirstContentfulPaint()
+                + ',' + timing.getLargestContentfulPaint()
+                + ',' + timing.getTransferSize()
+                + ',' + timing.getResources());
+        LOG.fine("Page timing: " + timing);
+    }
+
+    /**
+     * Gets timings of the last page opened in current thread.
+     *
+     * @return page timing or null if no page was captured
+     */
+    public static PageTiming last() {
+        return LAST.get();
+    }
+
+    /**
+     * Gets summary of all stories.
+     *
+     * @return CSV summary
+     */
+    static CsvSummary summary() {
+        return SUMMARY;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+/**
+ * Phases of the step execution.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public enum Phase {
+    /**
+     * Waiting for element to be located and visible.
+     */
+    LOCATE,
+    /**
+     * Polling until expected condition.
+     */
+    WAIT,
+    /**
+     * Interaction with browser or mail server.
+     */
+    ACTION,
+    /**
+     * Configured pause before step.
+     */
+    PACING
+}
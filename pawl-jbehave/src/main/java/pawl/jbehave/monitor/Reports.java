@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import org.jbehave.core.reporters.StoryReporterBuilder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Run summaries written next to the JBehave reports. Worker JVMs of the
+ * {@link pawl.jbehave.embedder.StoryCoordinator} write parts of the
+ * summaries, which the coordinator merges.
+ *
+ * @author Alex Voloshyn
+ * @version 1.2 10/19/26
+ */
+public final class Reports {
+    /**
+     * System property with index of the worker JVM of the coordinator.
+     */
+    public static final String WORKER = "pawl.worker";
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(Reports.class.getName());
+    /**
+     * Infix of the names of the summary parts written by worker JVMs.
+     */
+    private static final String PART = ".worker-";
+    /**
+     * Registered summary writers by name.
+     */
+    private static final Map<String, Runnable> WRITERS =
+            new ConcurrentHashMap<>();
+
+    /**
+     * For non-instantiability.
+     */
+    private Reports() {
+        super();
+    }
+
+    /**
+     * Gets JBehave reports directory.
+     *
+     * @return reports directory
+     */
+    public static File directory() {
+        return new StoryReporterBuilder().outputDirectory();
+    }
+
+    /**
+     * Register summary writer to run once when JVM stops.
+     *
+     * @param name   summary name
+     * @param writer summary writer
+     */
+    public static void onShutdown(final String name, final Runnable writer) {
+        if (WRITERS.putIfAbsent(name, writer) == null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(writer, name));
+        }
+    }
+
+    /**
+     * Check that this JVM is a worker of the coordinator.
+     *
+     * @return true if summaries are written as parts
+     */
+    public static boolean isWorker() {
+        return System.getProperty(WORKER) != null;
+    }
+
+    /**
+     * Gets name of the summary file written by this JVM. Worker JVM writes
+     * its part of the summary.
+     *
+     * @param name summary file name
+     * @return name of the summary or of its part
+     */
+    public static String part(final String name) {
+        if (isWorker()) {
+            return name + PART + System.getProperty(WORKER);
+        }
+        return name;
+    }
+
+    /**
+     * Read parts of the summary written by worker JVMs and delete them.
+     *
+     * @param name   summary file name
+     * @param merger consumer of the lines of each part
+     */
+    public static void mergeParts(final String name,
+                                  final Consumer<List<String>> merger) {
+        final File[] parts = directory().listFiles((File dir, String file) ->
+                file.startsWith(name + PART));
+        if (parts == null) {
+            return;
+        }
+        Arrays.sort(parts);
+        for (File part : parts) {
+            try {
+                merger.accept(Files.readAllLines(part.toPath(),
+                        StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "Cannot read " + part, e);
+            }
+            if (!part.delete()) {
+                LOG.log(Level.WARNING, "Cannot delete {0}", part);
+            }
+        }
+    }
+
+    /**
+     * Open UTF-8 writer of the file in reports directory.
+     *
+     * @param name file name
+     * @return writer
+     * @throws IOException if file cannot be opened
+     */
+    public static PrintWriter open(final String name) throws IOException {
+        return open(name, false);
+    }
+
+    /**
+     * Open UTF-8 writer of the file in reports directory.
+     *
+     * @param name   file name
+     * @param append flag that file should be appended
+     * @return writer
+     * @throws IOException if file cannot be opened
+     */
+    public static PrintWriter open(final String name, final boolean append)
+            throws IOException {
+        final File directory = directory();
+        if (!directory.exists() && !directory.mkdirs()) {
+            LOG.log(Level.WARNING, "Cannot create directory {0}", directory);
+        }
+        return new PrintWriter(new OutputStreamWriter(new FileOutputStream(
+                new File(directory, name), append), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Quote JSON string.
+     *
+     * @param value string to quote
+     * @return JSON string
+     */
+    public static String quote(final String value) {
+        final StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                case '\\':
+                    quoted.append('\\').append(c);
+                    break;
+                case '\n':
+                    quoted.append("\\n");
+                    break;
+                case '\r':
+                    quoted.append("\\r");
+                    break;
+                case '\t':
+                    quoted.append("\\t");
+                    break;
+                default:
+                    if (c < ' ') {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                    break;
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Encode text as single word of the summary part.
+     *
+     * @param value text to encode
+     * @return encoded text without spaces and line breaks
+     */
+    static String encode(final String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Decode text encoded by {@link #encode(String)}.
+     *
+     * @param value encoded text
+     * @return decoded text
+     */
+    static String decode(final String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Quote CSV value.
+     *
+     * @param value string to quote
+     * @return CSV value
+     */
+    public static String csv(final String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import pawl.webdriver.LocalizedWebDriverProvider;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Progress of the current run shown by the run dashboard. Runner plans the
+ * run with the expected durations of the stories and stories report progress
+ * of the slot they run in, a story thread or a worker JVM. Snapshot has the
+ * active stories with their current steps, utilization of the slots and the
+ * driver pool, queue depth, latency percentiles of the slowest steps and the
+ * estimated time to finish the run.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class RunProgress {
+    /**
+     * Estimate when durations are not known.
+     */
+    public static final long UNKNOWN = -1;
+    /**
+     * Quantity of the slowest steps in snapshot.
+     */
+    private static final int TOP_STEPS = 10;
+    /**
+     * Percentile the steps are ordered by.
+     */
+    private static final double P95 = 95;
+    /**
+     * Expected durations of the planned stories in milliseconds.
+     */
+    private static final Map<String, Long> PLANNED = new LinkedHashMap<>();
+    /**
+     * Stories that have been started.
+     */
+    private static final Set<String> STARTED = new HashSet<>();
+    /**
+     * Durations of the finished stories in milliseconds.
+     */
+    private static final Map<String, Long> FINISHED = new LinkedHashMap<>();
+    /**
+     * Finished stories that failed.
+     */
+    private static final Set<String> FAILED = new HashSet<>();
+    /**
+     * Running stories by slot.
+     */
+    private static final Map<String, Active> ACTIVE = new TreeMap<>();
+    /**
+     * Quantity of the stories run at the same time.
+     */
+    private static int slots = 1;
+    /**
+     * Start of the run.
+     */
+    private static long begin = System.currentTimeMillis();
+
+    /**
+     * For non-instantiability.
+     */
+    private RunProgress() {
+        super();
+    }
+
+    /**
+     * Start new run.
+     *
+     * @param expected expected durations of the stories in milliseconds,
+     *                 0 when duration is not known
+     * @param parallel quantity of the stories run at the same time
+     */
+    public static synchronized void plan(final Map<String, Long> expected,
+                                         final int parallel) {
+        PLANNED.clear();
+        STARTED.clear();
+        FINISHED.clear();
+        FAILED.clear();
+        ACTIVE.clear();
+        PLANNED.putAll(expected);
+        slots = Math.max(1, parallel);
+        begin = System.currentTimeMillis();
+    }
+
+    /**
+     * Story started in slot.
+     *
+     * @param slot  story thread or worker name
+     * @param story story path
+     */
+    public static synchronized void started(final String slot,
+                                            final String story) {
+        STARTED.add(story);
+        ACTIVE.put(slot, new Active(story));
+    }
+
+    /**
+     * Step started in slot.
+     *
+     * @param slot story thread or worker name
+     * @param step step text
+     */
+    public static synchronized void step(final String slot,
+                                         final String step) {
+        final Active active = ACTIVE.get(slot);
+        if (active != null) {
+            active.step = step;
+            active.stepStart = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Story in slot failed.
+     *
+     * @param slot story thread or worker name
+     */
+    public static synchronized void failed(final String slot) {
+        final Active active = ACTIVE.get(slot);
+        if (active != null) {
+            active.failed = true;
+        }
+    }
+
+    /**
+     * Story in slot finished.
+     *
+     * @param slot story thread or worker name
+     */
+    public static synchronized void finished(final String slot) {
+        final Active active = ACTIVE.remove(slot);
+        if (active != null) {
+            finish(active.story, active.failed,
+                    System.currentTimeMillis() - active.start);
+        }
+    }
+
+    /**
+     * Story cancelled on timeout in any slot.
+     *
+     * @param story story path
+     */
+    public static synchronized void cancelled(final String story) {
+        final long now = System.currentTimeMillis();
+        long duration = 0;
+        final List<String> slotsOfStory = new ArrayList<>();
+        for (Map.Entry<String, Active> active : ACTIVE.entrySet()) {
+            if (active.getValue().story.equals(story)) {
+                slotsOfStory.add(active.getKey());
+                duration = Math.max(duration,
+                        now - active.getValue().start);
+            }
+        }
+        ACTIVE.keySet().removeAll(slotsOfStory);
+        finish(story, true, duration);
+    }
+
+    /**
+     * Estimate time to finish the run from the expected durations of the
+     * queued stories and the rest of the active ones. Stories without known
+     * duration are expected to take as long as the stories finished so far.
+     *
+     * @return estimate in milliseconds or {@link #UNKNOWN}
+     */
+    public static synchronized long eta() {
+        final long now = System.currentTimeMillis();
+        final long fallback = average();
+        long work = 0;
+        for (String story : queued()) {
+            final long expected = expected(story, fallback);
+            if (expected == UNKNOWN) {
+                return UNKNOWN;
+            }
+            work += expected;
+        }
+        for (Active active : ACTIVE.values()) {
+            final long expected = expected(active.story, fallback);
+            if (expected == UNKNOWN) {
+                return UNKNOWN;
+            }
+            work += Math.max(0, expected - (now - active.start));
+        }
+        return work / slots;
+    }
+
+    /**
+     * Build JSON snapshot of the run.
+     *
+     * @return JSON object
+     */
+    public static synchronized String json() {
+        final long now = System.currentTimeMillis();
+        final StringBuilder json = new StringBuilder("{\"elapsed_ms\": ")
+                .append(now - begin)
+                .append(", \"planned\": ").append(PLANNED.size())
+                .append(", \"queued\": ").append(queued().size())
+                .append(", \"finished\": ").append(FINISHED.size())
+                .append(", \"failed\": ").append(FAILED.size())
+                .append(", \"eta_ms\": ");
+        final long eta = eta();
+        if (eta == UNKNOWN) {
+            json.append("null");
+        } else {
+            json.append(eta);
+        }
+        json.append(", \"slots\": ").append(slots)
+                .append(", \"utilization\": ").append(String.format(
+                        Locale.ROOT, "%.2f",
+                        Math.min(1.0, (double) ACTIVE.size() / slots)))
+                .append(", \"drivers\": {\"busy\": ")
+                .append(LocalizedWebDriverProvider.busyDrivers())
+                .append(", \"idle\": ")
+                .append(LocalizedWebDriverProvider.idleDrivers())
+                .append("}, \"active\": [");
+        String separator = "";
+        for (Map.Entry<String, Active> slot : ACTIVE.entrySet()) {
+            final Active active = slot.getValue();
+            json.append(separator)
+                    .append("{\"slot\": ").append(Reports.quote(slot.getKey()))
+                    .append(", \"story\": ").append(Reports.quote(active.story))
+                    .append(", \"story_ms\": ").append(now - active.start)
+                    .append(", \"step\": ").append(Reports.quote(active.step))
+                    .append(", \"step_ms\": ").append(now - active.stepStart)
+                    .append(", \"failed\": ").append(active.failed)
+                    .append('}');
+            separator = ", ";
+        }
+        json.append("], \"steps\": [");
+        separator = "";
+        for (Map.Entry<String, LatencyHistogram> step : slowestSteps()) {
+            json.append(separator)
+                    .append("{\"step\": ").append(Reports.quote(step.getKey()))
+                    .append(", \"count\": ").append(step.getValue().count())
+                    .append(", \"total\": ")
+                    .append(StepStatistics.json(step.getValue()))
+                    .append('}');
+            separator = ", ";
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Record finished story.
+     *
+     * @param story    story path
+     * @param failed   flag that story failed
+     * @param duration story duration in milliseconds
+     */
+    private static void finish(final String story, final boolean failed,
+                               final long duration) {
+        FINISHED.put(story, duration);
+        if (failed) {
+            FAILED.add(story);
+        } else {
+            FAILED.remove(story);
+        }
+    }
+
+    /**
+     * Gets planned stories that are not started yet.
+     *
+     * @return queued story paths
+     */
+    private static List<String> queued() {
+        final List<String> queued = new ArrayList<>();
+        for (String story : PLANNED.keySet()) {
+            if (!STARTED.contains(story) && !FINISHED.containsKey(story)) {
+                queued.add(story);
+            }
+        }
+        return queued;
+    }
+
+    /**
+     * Gets expected duration of the story.
+     *
+     * @param story    story path
+     * @param fallback duration of the stories without known duration
+     * @return duration in milliseconds or {@link #UNKNOWN}
+     */
+    private static long expected(final String story, final long fallback) {
+        final Long expected = PLANNED.get(story);
+        if (expected != null && expected > 0) {
+            return expected;
+        }
+        if (fallback > 0) {
+            return fallback;
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Gets average duration of the stories finished in this run or, before
+     * the first one finishes, of the planned stories with known duration.
+     *
+     * @return duration in milliseconds or 0 if nothing is known
+     */
+    private static long average() {
+        long sum = 0;
+        long count = 0;
+        for (long duration : FINISHED.values()) {
+            sum += duration;
+            count++;
+        }
+        if (count == 0) {
+            for (long duration : PLANNED.values()) {
+                if (duration > 0) {
+                    sum += duration;
+                    count++;
+                }
+            }
+        }
+        if (count == 0) {
+            return 0;
+        }
+        return sum / count;
+    }
+
+    /**
+     * Gets steps with the highest 95th percentile.
+     *
+     * @return step patterns with histograms
+     */
+    private static List<Map.Entry<String, LatencyHistogram>> slowestSteps() {
+        final List<Map.Entry<String, LatencyHistogram>> steps =
+                new ArrayList<>(StepStatistics.histograms().entrySet());
+        steps.sort((Map.Entry<String, LatencyHistogram> a,
+                    Map.Entry<String, LatencyHistogram> b) -> Long.compare(
+                b.getValue().percentile(P95), a.getValue().percentile(P95)));
+        return steps.subList(0, Math.min(TOP_STEPS, steps.size()));
+    }
+
+    /**
+     * Story running in slot.
+     */
+    private static final class Active {
+        /**
+         * Story path.
+         */
+        private final String story;
+        /**
+         * Story start.
+         */
+        private final long start = System.currentTimeMillis();
+        /**
+         * Current step text.
+         */
+        private String step = "";
+        /**
+         * Current step start.
+         */
+        private long stepStart = start;
+        /**
+         * Flag that story failed.
+         */
+        private boolean failed;
+
+        /**
+         * Create running story.
+         *
+         * @param path story path
+         */
+        private Active(final String path) {
+            story = path;
+        }
+    }
+}
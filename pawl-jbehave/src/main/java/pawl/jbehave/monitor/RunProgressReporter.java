@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import org.jbehave.core.model.OutcomesTable;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.reporters.NullStoryReporter;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Story reporter that reports stories and steps running in each story
+ * thread to {@link RunProgress}. Parts of the stories split to run in
+ * parallel are reported under the original story path. Stories register it
+ * only when <code>dashboard.port</code> is set, so runs without dashboard do
+ * not lock the progress on every step.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class RunProgressReporter extends NullStoryReporter {
+    /**
+     * Resolver of the original story path.
+     */
+    private final UnaryOperator<String> originalPath;
+
+    /**
+     * Create reporter.
+     *
+     * @param original resolver of the original story path
+     */
+    public RunProgressReporter(final UnaryOperator<String> original) {
+        super();
+        originalPath = original;
+    }
+
+    @Override
+    public void beforeStory(final Story story, final boolean givenStory) {
+        if (!givenStory) {
+            RunProgress.started(slot(), originalPath.apply(story.getPath()));
+        }
+    }
+
+    @Override
+    public void beforeStep(final String step) {
+        RunProgress.step(slot(), step);
+    }
+
+    @Override
+    public void failed(final String step, final Throwable cause) {
+        RunProgress.failed(slot());
+    }
+
+    @Override
+    public void failedOutcomes(final String step, final OutcomesTable table) {
+        RunProgress.failed(slot());
+    }
+
+    @Override
+    public void storyCancelled(final Story story,
+                               final StoryDuration storyDuration) {
+        RunProgress.cancelled(originalPath.apply(story.getPath()));
+    }
+
+    @Override
+    public void afterStory(final boolean givenStory) {
+        if (!givenStory) {
+            RunProgress.finished(slot());
+        }
+    }
+
+    /**
+     * Gets slot of the current story thread.
+     *
+     * @return thread name
+     */
+    private static String slot() {
+        return Thread.currentThread().getName();
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Timed operation of a trace.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+final class Span {
+    /**
+     * Number of random longs in trace id.
+     */
+    private static final int TRACE_ID_LONGS = 2;
+    /**
+     * Trace id as hex string.
+     */
+    private final String traceId;
+    /**
+     * Span id as hex string.
+     */
+    private final String spanId;
+    /**
+     * Parent span or null for root.
+     */
+    private final Span parent;
+    /**
+     * Span kind, like story or step.
+     */
+    private final String kind;
+    /**
+     * Span name.
+     */
+    private final String name;
+    /**
+     * Start time in nanoseconds since epoch.
+     */
+    private final long start;
+    /**
+     * Span attributes.
+     */
+    private final Map<String, String> attributes = new ConcurrentHashMap<>();
+    /**
+     * End time in nanoseconds since epoch.
+     */
+    private volatile long end;
+    /**
+     * Flag that span or any of its children failed.
+     */
+    private volatile boolean failed;
+
+    /**
+     * Create span.
+     *
+     * @param parentSpan parent span or null for root
+     * @param spanKind   span kind
+     * @param spanName   span name
+     * @param startTime  start time in nanoseconds since epoch
+     */
+    Span(final Span parentSpan, final String spanKind, final String spanName,
+         final long startTime) {
+        if (parentSpan == null) {
+            traceId = randomId(TRACE_ID_LONGS);
+        } else {
+            traceId = parentSpan.traceId;
+        }
+        spanId = randomId(1);
+        parent = parentSpan;
+        kind = spanKind;
+        name = spanName;
+        start = startTime;
+    }
+
+    /**
+     * Generate random hex id.
+     *
+     * @param longs number of random longs
+     * @return hex id
+     */
+    private static String randomId(final int longs) {
+        final StringBuilder id = new StringBuilder();
+        for (int i = 0; i < longs; i++) {
+            id.append(String.format("%016x",
+                    ThreadLocalRandom.current().nextLong()));
+        }
+        return id.toString();
+    }
+
+    /**
+     * Finish span and mark parents failed if span failed.
+     *
+     * @param endTime   end time in nanoseconds since epoch
+     * @param hasFailed flag that span failed
+     */
+    void finish(final long endTime, final boolean hasFailed) {
+        end = endTime;
+        if (hasFailed) {
+            Span span = this;
+            while (span != null) {
+                span.failed = true;
+                span = span.parent;
+            }
+        }
+    }
+
+    /**
+     * Set attribute.
+     *
+     * @param key   attribute key
+     * @param value attribute value
+     */
+    void attribute(final String key, final String value) {
+        attributes.put(key, value);
+    }
+
+    /**
+     * Gets trace id.
+     *
+     * @return trace id
+     */
+    String getTraceId() {
+        return traceId;
+    }
+
+    /**
+     * Gets span id.
+     *
+     * @return span id
+     */
+    String getSpanId() {
+        return spanId;
+    }
+
+    /**
+     * Gets parent span or null.
+     *
+     * @return parent span or null
+     */
+    Span getParent() {
+        return parent;
+    }
+
+    /**
+     * Gets span kind.
+     *
+     * @return span kind
+     */
+    String getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets span name.
+     *
+     * @return span name
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Gets start time in nanoseconds since epoch.
+     *
+     * @return start time in nanoseconds since epoch
+     */
+    long getStart() {
+        return start;
+    }
+
+    /**
+     * Gets end time in nanoseconds since epoch.
+     *
+     * @return end time in nanoseconds since epoch
+     */
+    long getEnd() {
+        return end;
+    }
+
+    /**
+     * Gets flag that span or its children failed.
+     *
+     * @return true if span or its children failed
+     */
+    boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * Gets span attributes.
+     *
+     * @return span attributes
+     */
+    Map<String, String> getAttributes() {
+        return attributes;
+    }
+}
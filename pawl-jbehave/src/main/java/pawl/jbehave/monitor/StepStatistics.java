@@ -0,0 +1,292 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Latency histograms of the steps grouped by step pattern. Summary with
+ * percentiles of each step and its phases is written as
+ * <code>pawl-step-timings.json</code> and <code>pawl-step-timings.csv</code>
+ * into the JBehave reports directory when a run ends. Worker JVMs of the
+ * coordinator save their histograms as parts, which the coordinator merges.
+ *
+ * @author Alex Voloshyn
+ * @version 1.3 10/19/26
+ */
+public final class StepStatistics {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(StepStatistics.class.getName());
+    /**
+     * Summary file name without extension.
+     */
+    private static final String SUMMARY = "pawl-step-timings";
+    /**
+     * Name of the whole step time in summary.
+     */
+    private static final String TOTAL = "total";
+    /**
+     * Reported percentiles.
+     */
+    private static final double[] PERCENTILES = {50, 95, 99};
+    /**
+     * Microseconds in millisecond.
+     */
+    private static final double MILLIS = 1000.0;
+    /**
+     * Quantity of the fields in line of the saved part.
+     */
+    private static final int FIELDS = 3;
+    /**
+     * Statistics by step pattern.
+     */
+    private static final Map<String, StepStatistics> STEPS =
+            new ConcurrentHashMap<>();
+    /**
+     * Whole step time.
+     */
+    private final LatencyHistogram total = new LatencyHistogram();
+    /**
+     * Time by phase.
+     */
+    private final Map<Phase, LatencyHistogram> phases =
+            new EnumMap<>(Phase.class);
+
+    /**
+     * Create step statistics.
+     */
+    private StepStatistics() {
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Record timings of the finished step.
+     *
+     * @param step    step text
+     * @param timings step timings
+     */
+    public static void record(final String step, final StepTimings timings) {
+        final StepStatistics statistics =
+                STEPS.computeIfAbsent(pattern(step), (String key) ->
+                        new StepStatistics());
+        statistics.total.record(timings.total());
+        for (Phase phase : Phase.values()) {
+            statistics.phases.get(phase).record(timings.phase(phase));
+        }
+    }
+
+    /**
+     * Gets histogram of the whole step time.
+     *
+     * @param step step text or pattern
+     * @return histogram or null if step was not recorded
+     */
+    public static LatencyHistogram histogram(final String step) {
+        final StepStatistics statistics = STEPS.get(pattern(step));
+        if (statistics == null) {
+            return null;
+        }
+        return statistics.total;
+    }
+
+    /**
+     * Gets histograms of the whole step time of all recorded steps.
+     *
+     * @return histograms by step pattern
+     */
+    public static Map<String, LatencyHistogram> histograms() {
+        final Map<String, LatencyHistogram> result = new TreeMap<>();
+        for (Map.Entry<String, StepStatistics> step : STEPS.entrySet()) {
+            result.put(step.getKey(), step.getValue().total);
+        }
+        return result;
+    }
+
+    /**
+     * Convert step text to pattern by replacing quoted values.
+     *
+     * @param step step text
+     * @return step pattern
+     */
+    public static String pattern(final String step) {
+        return step.trim().replaceAll("'[^']*'", "'\\$'");
+    }
+
+    /**
+     * Write summary of the recorded steps into reports directory. Worker JVM
+     * saves its part of the summary instead.
+     */
+    public static void write() {
+        if (STEPS.isEmpty()) {
+            return;
+        }
+        if (Reports.isWorker()) {
+            save();
+            return;
+        }
+        final Map<String, StepStatistics> sorted = new TreeMap<>(STEPS);
+        try (PrintWriter json = Reports.open(SUMMARY + ".json");
+             PrintWriter csv = Reports.open(SUMMARY + ".csv")) {
+            csv.println("step,phase,count,mean_ms,p50_ms,p95_ms,p99_ms,max_ms");
+            json.println("[");
+            int index = 0;
+            for (Map.Entry<String, StepStatistics> step : sorted.entrySet()) {
+                final StepStatistics statistics = step.getValue();
+                json.print("  {\"step\": " + Reports.quote(step.getKey())
+                        + ", \"count\": " + statistics.total.count()
+                        + ", \"" + TOTAL + "\": "
+                        + json(statistics.total));
+                writeCsv(csv, step.getKey(), TOTAL, statistics.total);
+                for (Phase phase : Phase.values()) {
+                    final String name = phase.name().toLowerCase(Locale.ROOT);
+                    final LatencyHistogram histogram =
+                            statistics.phases.get(phase);
+                    json.print(", \"" + name + "\": " + json(histogram));
+                    writeCsv(csv, step.getKey(), name, histogram);
+                }
+                index++;
+                if (index < sorted.size()) {
+                    json.println("},");
+                } else {
+                    json.println("}");
+                }
+            }
+            json.println("]");
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot write step timings", e);
+        }
+    }
+
+    /**
+     * Save histograms of the recorded steps as part of the summary.
+     */
+    private static void save() {
+        try (PrintWriter part = Reports.open(Reports.part(SUMMARY))) {
+            for (Map.Entry<String, StepStatistics> step : STEPS.entrySet()) {
+                final String pattern = Reports.encode(step.getKey());
+                part.println(TOTAL + ' ' + pattern + ' '
+                        + step.getValue().total.save());
+                for (Phase phase : Phase.values()) {
+                    part.println(phase.name() + ' ' + pattern + ' '
+                            + step.getValue().phases.get(phase).save());
+                }
+            }
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot save step timings", e);
+        }
+    }
+
+    /**
+     * Add histograms saved by worker JVMs.
+     */
+    public static void mergeParts() {
+        Reports.mergeParts(SUMMARY, StepStatistics::merge);
+    }
+
+    /**
+     * Add histograms of the saved part.
+     *
+     * @param lines lines of the part
+     */
+    private static void merge(final List<String> lines) {
+        for (String line : lines) {
+            final String[] fields = line.split(" ", FIELDS);
+            if (fields.length < FIELDS) {
+                continue;
+            }
+            final StepStatistics statistics = STEPS.computeIfAbsent(
+                    Reports.decode(fields[1]), (String key) ->
+                            new StepStatistics());
+            LatencyHistogram histogram = statistics.total;
+            if (!TOTAL.equals(fields[0])) {
+                histogram = statistics.phases.get(Phase.valueOf(fields[0]));
+            }
+            histogram.merge(fields[2]);
+        }
+    }
+
+    /**
+     * Forget recorded steps, so the next run starts a new summary.
+     */
+    public static void reset() {
+        STEPS.clear();
+    }
+
+    /**
+     * Write CSV row.
+     *
+     * @param csv       writer
+     * @param step      step pattern
+     * @param phase     phase name
+     * @param histogram phase histogram
+     */
+    private static void writeCsv(final PrintWriter csv, final String step,
+                                 final String phase,
+                                 final LatencyHistogram histogram) {
+        final StringBuilder row = new StringBuilder();
+        row.append(Reports.csv(step)).append(',').append(phase)
+                .append(',').append(histogram.count())
+                .append(',').append(millis(histogram.mean()));
+        for (double percentile : PERCENTILES) {
+            row.append(',').append(millis(histogram.percentile(percentile)));
+        }
+        row.append(',').append(millis(histogram.max()));
+        csv.println(row);
+    }
+
+    /**
+     * Convert histogram to JSON object.
+     *
+     * @param histogram to convert
+     * @return JSON object
+     */
+    static String json(final LatencyHistogram histogram) {
+        final StringBuilder object = new StringBuilder("{\"mean_ms\": ")
+                .append(millis(histogram.mean()));
+        for (double percentile : PERCENTILES) {
+            object.append(", \"p").append((int) percentile).append("_ms\": ")
+                    .append(millis(histogram.percentile(percentile)));
+        }
+        return object.append(", \"max_ms\": ")
+                .append(millis(histogram.max())).append('}').toString();
+    }
+
+    /**
+     * Format microseconds as milliseconds.
+     *
+     * @param micros value in microseconds
+     * @return milliseconds string
+     */
+    private static String millis(final long micros) {
+        return String.format(Locale.ROOT, "%.3f", micros / MILLIS);
+    }
+}
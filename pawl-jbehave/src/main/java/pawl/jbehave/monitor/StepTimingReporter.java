@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import org.jbehave.core.model.OutcomesTable;
+import org.jbehave.core.reporters.NullStoryReporter;
+
+/**
+ * Story reporter that times each step and records it to
+ * {@link StepStatistics}.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class StepTimingReporter extends NullStoryReporter {
+    @Override
+    public void beforeStep(final String step) {
+        StepTimings.beginStep();
+    }
+
+    @Override
+    public void successful(final String step) {
+        finish(step);
+    }
+
+    @Override
+    public void failed(final String step, final Throwable cause) {
+        finish(step);
+    }
+
+    @Override
+    public void failedOutcomes(final String step, final OutcomesTable table) {
+        finish(step);
+    }
+
+    @Override
+    public void pending(final String step) {
+        finish(step);
+    }
+
+    /**
+     * Record timings of the finished step.
+     *
+     * @param step step text
+     */
+    private void finish(final String step) {
+        final StepTimings timings = StepTimings.endStep();
+        if (timings != null) {
+            StepStatistics.record(step, timings);
+        }
+    }
+}
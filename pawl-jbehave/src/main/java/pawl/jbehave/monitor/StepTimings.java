@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+
+/**
+ * Time spent by the running step in each {@link Phase}. Phases can be
+ * nested and time is attributed to the innermost phase only, the time out
+ * of any phase is an action. Timings are tracked per thread and calls
+ * outside of step are ignored.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class StepTimings {
+    /**
+     * Nanoseconds in millisecond.
+     */
+    private static final long NANOS_IN_MILLI = 1000000L;
+    /**
+     * Timings of the step running on the current thread.
+     */
+    private static final ThreadLocal<StepTimings> CURRENT =
+            new ThreadLocal<>();
+    /**
+     * Time by phase in nanoseconds.
+     */
+    private final long[] phases = new long[Phase.values().length];
+    /**
+     * Active phases.
+     */
+    private final Deque<Phase> active = new ArrayDeque<>();
+    /**
+     * Step start time in nanoseconds.
+     */
+    private final long started = System.nanoTime();
+    /**
+     * Time of the last phase change in nanoseconds.
+     */
+    private long mark = started;
+
+    /**
+     * Create step timings.
+     */
+    private StepTimings() {
+        active.push(Phase.ACTION);
+    }
+
+    /**
+     * Start timing of the step on the current thread.
+     */
+    public static void beginStep() {
+        CURRENT.set(new StepTimings());
+    }
+
+    /**
+     * Finish timing of the step on the current thread.
+     *
+     * @return step timings or null if step was not started
+     */
+    public static StepTimings endStep() {
+        final StepTimings timings = CURRENT.get();
+        if (timings != null) {
+            CURRENT.remove();
+            timings.flush();
+        }
+        return timings;
+    }
+
+    /**
+     * Describe time spent so far by the step on the current thread.
+     *
+     * @return total and phase times or empty string outside of step
+     */
+    public static String describe() {
+        final StepTimings timings = CURRENT.get();
+        if (timings == null) {
+            return "";
+        }
+        timings.flush();
+        final StringBuilder description = new StringBuilder()
+                .append(timings.total() / NANOS_IN_MILLI).append(" ms (");
+        for (Phase phase : Phase.values()) {
+            if (phase.ordinal() > 0) {
+                description.append(", ");
+            }
+            description.append(phase.name().toLowerCase(Locale.ROOT))
+                    .append(' ').append(timings.phase(phase) / NANOS_IN_MILLI)
+                    .append(" ms");
+        }
+        return description.append(')').toString();
+    }
+
+    /**
+     * Enter phase.
+     *
+     * @param phase to enter
+     */
+    public static void start(final Phase phase) {
+        final StepTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.flush();
+            timings.active.push(phase);
+        }
+    }
+
+    /**
+     * Leave the innermost phase.
+     */
+    public static void stop() {
+        final StepTimings timings = CURRENT.get();
+        if (timings != null && timings.active.size() > 1) {
+            timings.flush();
+            timings.active.pop();
+        }
+    }
+
+    /**
+     * Gets total step time.
+     *
+     * @return time in nanoseconds
+     */
+    public long total() {
+        return mark - started;
+    }
+
+    /**
+     * Gets time of the phase.
+     *
+     * @param phase step phase
+     * @return time in nanoseconds
+     */
+    public long phase(final Phase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    /**
+     * Attribute time since the last change to the innermost phase.
+     */
+    private void flush() {
+        final long now = System.nanoTime();
+        phases[active.peek().ordinal()] += now - mark;
+        mark = now;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+/**
+ * Summaries of the run in the JBehave reports directory. Summaries are
+ * written when a run ends. Worker JVMs of the
+ * {@link pawl.jbehave.embedder.StoryCoordinator} write parts of the
+ * summaries, which the coordinator merges when all workers exited.
+ *
+ * @author Alex Voloshyn
+ * @version 1.2 10/19/26
+ */
+public final class Summaries {
+    /**
+     * For non-instantiability.
+     */
+    private Summaries() {
+        super();
+    }
+
+    /**
+     * Write summaries of everything recorded since the last reset.
+     */
+    public static void write() {
+        StepStatistics.write();
+        CommandStatistics.write();
+        HeapSeries.summary().flush();
+        PageTimings.summary().flush();
+    }
+
+    /**
+     * Forget recorded data, so the next run starts new summaries.
+     */
+    public static void reset() {
+        StepStatistics.reset();
+        CommandStatistics.reset();
+        HeapSeries.summary().reset();
+        PageTimings.summary().reset();
+    }
+
+    /**
+     * Delete parts left by workers of a previous run.
+     */
+    public static void discardParts() {
+        StepStatistics.mergeParts();
+        CommandStatistics.mergeParts();
+        HeapSeries.summary().discardParts();
+        PageTimings.summary().discardParts();
+        reset();
+    }
+
+    /**
+     * Merge parts written by worker JVMs and write summaries of the run.
+     */
+    public static void mergeParts() {
+        StepStatistics.mergeParts();
+        CommandStatistics.mergeParts();
+        HeapSeries.summary().mergeParts();
+        PageTimings.summary().mergeParts();
+        write();
+    }
+}
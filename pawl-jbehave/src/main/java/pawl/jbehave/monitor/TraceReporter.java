@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import org.jbehave.core.model.OutcomesTable;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.reporters.NullStoryReporter;
+
+/**
+ * Story reporter that opens {@link Tracer} spans of stories, scenarios and
+ * steps.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class TraceReporter extends NullStoryReporter {
+    @Override
+    public void beforeStory(final Story story, final boolean givenStory) {
+        Tracer.begin(Tracer.STORY, story.getPath());
+        if (givenStory) {
+            Tracer.attribute("pawl.given", Boolean.TRUE.toString());
+        }
+    }
+
+    @Override
+    public void afterStory(final boolean givenStory) {
+        Tracer.end(Tracer.STORY, false);
+    }
+
+    @Override
+    public void beforeScenario(final String scenarioTitle) {
+        Tracer.begin(Tracer.SCENARIO, scenarioTitle);
+    }
+
+    @Override
+    public void afterScenario() {
+        Tracer.end(Tracer.SCENARIO, false);
+    }
+
+    @Override
+    public void beforeStep(final String step) {
+        Tracer.begin(Tracer.STEP, step);
+        Tracer.attribute("pawl.step.pattern", StepStatistics.pattern(step));
+    }
+
+    @Override
+    public void successful(final String step) {
+        Tracer.end(Tracer.STEP, false);
+    }
+
+    @Override
+    public void failed(final String step, final Throwable cause) {
+        Tracer.attribute("pawl.failure", String.valueOf(cause));
+        Tracer.end(Tracer.STEP, true);
+    }
+
+    @Override
+    public void failedOutcomes(final String step, final OutcomesTable table) {
+        Tracer.end(Tracer.STEP, true);
+    }
+
+    @Override
+    public void pending(final String step) {
+        Tracer.end(Tracer.STEP, false);
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import pawl.util.Resources;
+import pawl.webdriver.CommandListener;
+import pawl.webdriver.DriverCommands;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+/**
+ * Collects hierarchical spans of a run: run, story, scenario, step, element
+ * action retry and driver command. Spans are collected only when
+ * <code>trace.export</code> property is enabled and exported by
+ * {@link OtlpExporter} when run ends. At most <code>trace.max.spans</code>
+ * finished spans are kept until export, later spans of the run are dropped.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class Tracer {
+    /**
+     * Kind of the whole run span.
+     */
+    public static final String RUN = "run";
+    /**
+     * Kind of the story span.
+     */
+    public static final String STORY = "story";
+    /**
+     * Kind of the scenario span.
+     */
+    public static final String SCENARIO = "scenario";
+    /**
+     * Kind of the step span.
+     */
+    public static final String STEP = "step";
+    /**
+     * Kind of the element action attempt span.
+     */
+    public static final String RETRY = "retry";
+    /**
+     * Kind of the driver command span.
+     */
+    public static final String COMMAND = "command";
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG = Logger.getLogger(Tracer.class.getName());
+    /**
+     * Nanoseconds in millisecond.
+     */
+    private static final long NANOS_IN_MILLI = 1000000L;
+    /**
+     * Difference between epoch and monotonic time in nanoseconds.
+     */
+    private static final long EPOCH_OFFSET =
+            System.currentTimeMillis() * NANOS_IN_MILLI - System.nanoTime();
+    /**
+     * Flag that tracing is enabled.
+     */
+    private static final boolean ENABLED = Resources.base().traceExport();
+    /**
+     * Root span of the running run.
+     */
+    private static final AtomicReference<Span> ROOT =
+            new AtomicReference<>();
+    /**
+     * Open spans of current thread.
+     */
+    private static final ThreadLocal<Deque<Span>> OPEN =
+            ThreadLocal.withInitial(ArrayDeque::new);
+    /**
+     * Finished spans waiting for export.
+     */
+    private static final Queue<Span> FINISHED = new ConcurrentLinkedQueue<>();
+    /**
+     * Maximum quantity of the finished spans waiting for export.
+     */
+    private static final int MAX_SPANS = Resources.base().traceMaxSpans();
+    /**
+     * Quantity of the finished spans waiting for export.
+     */
+    private static final AtomicInteger KEPT = new AtomicInteger();
+    /**
+     * Quantity of the spans dropped since the last export.
+     */
+    private static final AtomicInteger DROPPED = new AtomicInteger();
+
+    static {
+        if (ENABLED) {
+            DriverCommands.addListener(new CommandListener() {
+                @Override
+                public void beforeCommand(final String command) {
+                    begin(COMMAND, command);
+                }
+
+                @Override
+                public void afterCommand(final String command,
+                                         final long nanos,
+                                         final Throwable failure) {
+                    end(COMMAND, failure != null);
+                }
+            });
+            Reports.onShutdown("pawl-trace", Tracer::endRun);
+        }
+    }
+
+    /**
+     * For non-instantiability.
+     */
+    private Tracer() {
+        super();
+    }
+
+    /**
+     * Gets flag that tracing is enabled.
+     *
+     * @return true if spans are collected
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Begin run span if run is not started yet.
+     *
+     * @param name run name
+     */
+    public static void beginRun(final String name) {
+        if (ENABLED) {
+            root(name);
+        }
+    }
+
+    /**
+     * End run span and export all finished spans.
+     */
+    public static void endRun() {
+        if (!ENABLED) {
+            return;
+        }
+        final Span root = ROOT.getAndSet(null);
+        if (root == null) {
+            return;
+        }
+        root.finish(now(), false);
+        final List<Span> spans = new ArrayList<>();
+        Span span = FINISHED.poll();
+        while (span != null) {
+            KEPT.decrementAndGet();
+            spans.add(span);
+            span = FINISHED.poll();
+        }
+        spans.add(root);
+        final int dropped = DROPPED.getAndSet(0);
+        if (dropped > 0) {
+            LOG.warning(dropped + " spans are dropped, trace.max.spans is "
+                    + MAX_SPANS);
+        }
+        OtlpExporter.export(spans);
+    }
+
+    /**
+     * Begin span in current thread as child of the innermost open span.
+     *
+     * @param kind span kind
+     * @param name span name
+     */
+    public static void begin(final String kind, final String name) {
+        if (!ENABLED) {
+            return;
+        }
+        final Deque<Span> open = OPEN.get();
+        Span parent = open.peek();
+        if (parent == null) {
+            parent = root("pawl");
+        }
+        open.push(new Span(parent, kind, name, now()));
+    }
+
+    /**
+     * Set attribute of the innermost open span in current thread.
+     *
+     * @param key   attribute key
+     * @param value attribute value
+     */
+    public static void attribute(final String key, final String value) {
+        if (!ENABLED) {
+            return;
+        }
+        final Span span = OPEN.get().peek();
+        if (span != null && value != null) {
+            span.attribute(key, value);
+        }
+    }
+
+    /**
+     * End innermost open span of the kind in current thread. Spans opened
+     * inside it and left open are ended too.
+     *
+     * @param kind   span kind
+     * @param failed flag that span failed
+     */
+    public static void end(final String kind, final boolean failed) {
+        if (!ENABLED) {
+            return;
+        }
+        final Deque<Span> open = OPEN.get();
+        boolean found = false;
+        for (Span span : open) {
+            if (span.getKind().equals(kind)) {
+                found = true;
+                break;
+            }
+        }
+        if (!found) {
+            return;
+        }
+        final long now = now();
+        Span span = open.pop();
+        while (!span.getKind().equals(kind)) {
+            span.finish(now, false);
+            finished(span);
+            span = open.pop();
+        }
+        span.finish(now, failed);
+        finished(span);
+    }
+
+    /**
+     * Keep finished span for export unless too many spans are kept.
+     *
+     * @param span finished span
+     */
+    private static void finished(final Span span) {
+        if (KEPT.incrementAndGet() > MAX_SPANS) {
+            KEPT.decrementAndGet();
+            DROPPED.incrementAndGet();
+            return;
+        }
+        FINISHED.add(span);
+    }
+
+    /**
+     * Gets or starts root span.
+     *
+     * @param name run name used when root is started
+     * @return root span
+     */
+    private static Span root(final String name) {
+        Span root = ROOT.get();
+        while (root == null) {
+            ROOT.compareAndSet(null, new Span(null, RUN, name, now()));
+            root = ROOT.get();
+        }
+        return root;
+    }
+
+    /**
+     * Current time in nanoseconds since epoch.
+     *
+     * @return time in nanoseconds
+     */
+    private static long now() {
+        return EPOCH_OFFSET + System.nanoTime();
+    }
+}
@@ -24,20 +24,34 @@ import org.jbehave.core.annotations.When;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import pawl.jbehave.Pages;
+import pawl.jbehave.VisualBaselines;
+import pawl.jbehave.monitor.HeapSeries;
+import pawl.jbehave.monitor.PageTimings;
+import pawl.util.ImageDiff;
 import pawl.util.Resources;
 import pawl.util.WebExpectedConditions;
-
+import pawl.webdriver.BrowserState;
+import pawl.webdriver.BrowserStates;
+import pawl.webdriver.HeapSample;
+import pawl.webdriver.PageScreenshot;
+import pawl.webdriver.PageTiming;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.text.MessageFormat;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -52,7 +66,7 @@ import static org.junit.Assert.fail;
  * @author Alex Voloshyn
  * @author Mike Dolinin
  * @author Serge Voloshyn
- * @version 1.16 5/2/15
+ * @version 1.22 10/19/26
  */
 public final class BrowserSteps extends Matchers {
     /**
@@ -60,6 +74,10 @@ public final class BrowserSteps extends Matchers {
      */
     private static final Logger LOG =
             Logger.getLogger(BrowserSteps.class.getName());
+    /**
+     * Bytes in megabyte.
+     */
+    private static final long MEGABYTE = 1024L * 1024L;
     /**
      * Web pages collection factory.
      */
@@ -99,6 +117,7 @@ public final class BrowserSteps extends Matchers {
     @When("I open the link")
     public void openUrl() {
         browser.base().get(url);
+        capturePageTiming();
     }
 
     /**
@@ -108,6 +127,7 @@ public final class BrowserSteps extends Matchers {
     @Alias("refresh the page")
     public void refreshPage() {
         browser.base().navigate().refresh();
+        capturePageTiming();
     }
 
     /**
@@ -119,6 +139,150 @@ public final class BrowserSteps extends Matchers {
     public void openContextPath(final String contextPath) {
         String currentUrl = browser.base().getCurrentUrl();
         browser.base().get(currentUrl + contextPath);
+        capturePageTiming();
+    }
+
+    /**
+     * Verify that the last opened page finished loading within budget.
+     *
+     * @param millis load time budget in milliseconds
+     */
+    @Then("the page loads within '$millis' ms")
+    public void verifyPageLoadTime(final long millis) {
+        final PageTiming timing = lastPageTiming();
+        assertThat("Page load time is not available for " + timing,
+                timing.getLoad(), greaterThanOrEqualTo(0L));
+        assertThat("Page load time of " + timing, timing.getLoad(),
+                lessThanOrEqualTo(millis));
+    }
+
+    /**
+     * Verify that the last opened page transferred less than budget.
+     *
+     * @param kb transfer size budget in kilobytes
+     */
+    @Then("the page transfers less than '$kb' KB")
+    public void verifyPageTransferSize(final long kb) {
+        final PageTiming timing = lastPageTiming();
+        assertThat("Transfer size is not available for " + timing,
+                timing.getTransferSize(), greaterThanOrEqualTo(0L));
+        assertThat("Transfer size of " + timing, timing.getTransferSize(),
+                lessThan(kb * PageTiming.KILOBYTE));
+    }
+
+    /**
+     * Remember current JS heap size as named checkpoint of the story.
+     *
+     * @param checkpoint checkpoint name
+     */
+    @When("I mark JS heap checkpoint '$checkpoint'")
+    public void markHeapCheckpoint(final String checkpoint) {
+        HeapSeries.checkpoint(checkpoint, HeapSample.take(browser.base()));
+    }
+
+    /**
+     * Verify that JS heap grew less than limit since checkpoint.
+     *
+     * @param mb         heap growth limit in megabytes
+     * @param checkpoint checkpoint name
+     */
+    @Then("the JS heap grows less than '$mb' MB since '$checkpoint'")
+    public void verifyHeapGrowth(final long mb, final String checkpoint) {
+        final HeapSample start = HeapSeries.checkpoint(checkpoint);
+        if (start == null) {
+            fail("JS heap checkpoint '" + checkpoint + "' is not marked");
+        }
+        final HeapSample current = HeapSample.take(browser.base());
+        if (current.getUsedHeap() == HeapSample.UNKNOWN) {
+            fail("JS heap size is not exposed by the browser");
+        }
+        assertThat("JS heap growth since '" + checkpoint + "' ("
+                        + start + " -> " + current + ")",
+                current.getUsedHeap() - start.getUsedHeap(),
+                lessThan(mb * MEGABYTE));
+    }
+
+    /**
+     * Verify that screenshot of the page matches visual baseline.
+     *
+     * @param name baseline name
+     */
+    @Then("the page looks like baseline '$name'")
+    public void verifyPageMatchesBaseline(final String name) {
+        verifyBaseline(name, PageScreenshot.capture(driver()));
+    }
+
+    /**
+     * Verify that screenshot of the element matches visual baseline.
+     *
+     * @param identity element identity
+     * @param name     baseline name
+     */
+    @Then("the element '$identity' looks like baseline '$name'")
+    public void verifyElementMatchesBaseline(final String identity,
+                                             final String name) {
+        final WebElement element = browser.base().find(identity);
+        verifyBaseline(name, PageScreenshot.capture(driver(), element));
+    }
+
+    /**
+     * Compare screenshot with baseline within configured tolerance.
+     *
+     * @param name       baseline name
+     * @param screenshot actual screenshot
+     */
+    private void verifyBaseline(final String name,
+                                final BufferedImage screenshot) {
+        final ImageDiff diff;
+        try {
+            diff = VisualBaselines.compare(name, screenshot);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (diff != null) {
+            assertThat("Screenshot differs from baseline '" + name + "': "
+                            + diff, diff.getDifferingPercent(),
+                    lessThanOrEqualTo(
+                            Resources.base().visualTolerancePercent()));
+        }
+    }
+
+    /**
+     * Gets browser driver of the current story.
+     *
+     * @return web driver
+     */
+    private WebDriver driver() {
+        return browser.base().getDriverProvider().get();
+    }
+
+    /**
+     * Capture load metrics of the opened page when enabled.
+     */
+    private void capturePageTiming() {
+        if (!Resources.base().pageTimings()) {
+            return;
+        }
+        try {
+            PageTimings.record(PageTiming.capture(browser.base()));
+        } catch (WebDriverException e) {
+            LOG.log(Level.FINE, "Page timing is not available", e);
+        }
+    }
+
+    /**
+     * Gets metrics of the last opened page capturing them when missing.
+     *
+     * @return page timing
+     */
+    private PageTiming lastPageTiming() {
+        PageTiming timing = PageTimings.last();
+        if (timing == null
+                || !timing.getUrl().equals(browser.base().getCurrentUrl())) {
+            timing = PageTiming.capture(browser.base());
+            PageTimings.record(timing);
+        }
+        return timing;
     }
 
     /**
@@ -382,6 +546,58 @@ public final class BrowserSteps extends Matchers {
         browser.base().navigate().refresh();
     }
 
+    /**
+     * Save snapshot of the browser state and test context. Cookies and web
+     * storage are captured for the domain of the current page only.
+     *
+     * @param name snapshot name
+     */
+    @Then("the browser state is saved as '$name'")
+    public void saveBrowserState(final String name) {
+        BrowserStates.put(name, BrowserState.capture(browser.base()));
+    }
+
+    /**
+     * Restore snapshot of the browser state and test context.
+     *
+     * @param name snapshot name
+     */
+    @Given("the browser state '$name' is restored")
+    public void restoreBrowserState(final String name) {
+        final BrowserState state = BrowserStates.get(name);
+        assertThat("Browser state should be saved: '" + name + "'",
+                state, is(notNullValue()));
+        state.restore(browser.base());
+    }
+
+    /**
+     * Save cookies and web storage of the browser, so other stories can
+     * restore the session instead of login. Cookies and web storage are
+     * captured for the domain of the current page only.
+     *
+     * @param name session name
+     */
+    @When("I save the browser session as '$name'")
+    @Alias("save the browser session as '$name'")
+    public void saveBrowserSession(final String name) {
+        BrowserStates.save(name,
+                BrowserState.capture(browser.base()).withoutContext());
+    }
+
+    /**
+     * Restore cookies and web storage of the saved browser session.
+     *
+     * @param name session name
+     */
+    @When("I restore the browser session '$name'")
+    @Alias("restore the browser session '$name'")
+    public void restoreBrowserSession(final String name) {
+        final BrowserState state = BrowserStates.load(name);
+        assertThat("Browser session should be saved: '" + name + "'",
+                state, is(notNullValue()));
+        state.restore(browser.base());
+    }
+
     /**
      * Switch to a new window.
      */
@@ -395,8 +611,7 @@ public final class BrowserSteps extends Matchers {
             final Iterator<String> iterator = opened.iterator();
             newWindow = iterator.next();
         } else {
-            final WebDriverWait wait =
-                    new WebDriverWait(driver, Resources.base().explicitWait());
+            final WebDriverWait wait = browser.base().getWait();
             newWindow = wait.until(WebExpectedConditions.get()
                     .anyWindowOtherThan(opened));
         }
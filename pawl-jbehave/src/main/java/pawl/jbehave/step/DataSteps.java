@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.jbehave.step;
+
+import org.jbehave.core.annotations.AfterStory;
+import org.jbehave.core.annotations.Alias;
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.annotations.When;
+import pawl.util.DataPool;
+import pawl.util.Resources;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <code>DataSteps</code> lease pre-provisioned test data from the
+ * {@link DataPool}. Values of the leased entity are stored in the test
+ * session map as <code>&lt;pool&gt;.&lt;field&gt;</code>, so they can be used
+ * in other steps, for example <code>I fill 'email' with 'user.email'</code>.
+ * Entity leased again from the same pool and entities that are still leased
+ * at the end of the story are burned.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class DataSteps {
+    /**
+     * Entities leased on the current thread by pool name.
+     */
+    private final ThreadLocal<Map<String, Map<String, String>>> leases =
+            ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * Lease entity from the pool and store its values to test session map.
+     * Entity leased from the same pool before is burned.
+     *
+     * @param pool data pool name
+     */
+    @Given("a '$pool' from the data pool")
+    @Alias("I lease a '$pool' from the data pool")
+    public void lease(final String pool) {
+        burn(pool);
+        final Map<String, String> entity = DataPool.get(pool).lease();
+        leases.get().put(pool, entity);
+        for (Map.Entry<String, String> value : entity.entrySet()) {
+            Resources.context().put(pool + "." + value.getKey(),
+                    value.getValue());
+        }
+    }
+
+    /**
+     * Return unchanged entity to the pool.
+     *
+     * @param pool data pool name
+     */
+    @When("I return the '$pool' to the data pool")
+    @Alias("return the '$pool' to the data pool")
+    public void giveBack(final String pool) {
+        final Map<String, String> entity = leases.get().remove(pool);
+        if (entity != null) {
+            DataPool.get(pool).giveBack(entity);
+        }
+    }
+
+    /**
+     * Drop entity that cannot be reused.
+     *
+     * @param pool data pool name
+     */
+    @When("I burn the '$pool' from the data pool")
+    @Alias("burn the '$pool' from the data pool")
+    public void burn(final String pool) {
+        final Map<String, String> entity = leases.get().remove(pool);
+        if (entity != null) {
+            DataPool.get(pool).burn(entity);
+        }
+    }
+
+    /**
+     * Burn entities that were not returned by the story.
+     */
+    @AfterStory
+    public void burnLeased() {
+        for (Map.Entry<String, Map<String, String>> lease
+                : leases.get().entrySet()) {
+            DataPool.get(lease.getKey()).burn(lease.getValue());
+        }
+        leases.get().clear();
+    }
+}
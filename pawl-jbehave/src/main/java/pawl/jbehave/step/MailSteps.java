@@ -29,6 +29,11 @@ import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.support.ui.FluentWait;
+import pawl.jbehave.StepDeadlines;
+import pawl.jbehave.monitor.EventKind;
+import pawl.jbehave.monitor.FlightEvents;
+import pawl.jbehave.monitor.Phase;
+import pawl.jbehave.monitor.StepTimings;
 import pawl.util.Resources;
 
 import javax.mail.Address;
@@ -51,7 +56,7 @@ import java.util.logging.Logger;
  * a regex pattern that matches the textual step.
  *
  * @author Alex Voloshyn
- * @version 1.1 5/2/15
+ * @version 1.4 10/19/26
  */
 public final class MailSteps {
     /**
@@ -180,10 +185,14 @@ public final class MailSteps {
                 .withTimeout(Resources.base().explicitWait(), TimeUnit.SECONDS)
                 .pollingEvery(Resources.base().pollingInterval(),
                         TimeUnit.MILLISECONDS);
+        StepTimings.start(Phase.WAIT);
+        FlightEvents.begin(EventKind.MAIL_WAIT, recipient + ": " + subject);
+        String outcome = FlightEvents.FAILED;
         try {
             wait.until(new Predicate<String>() {
                 @Override
                 public boolean apply(final String recipient) {
+                    StepDeadlines.check(null);
                     try {
                         openInboxAs(recipient);
                     } catch (AuthenticationFailedException e) {
@@ -192,11 +201,16 @@ public final class MailSteps {
                     return findMessageWithParams(recipient, subject) != null;
                 }
             });
+            outcome = FlightEvents.OK;
         } catch (TimeoutException e) {
+            outcome = FlightEvents.TIMEOUT;
             throw new AssertionError("Could not find message with parameters: "
                     + "recipient - " + recipient + ", subject - " + subject
                     + "\nin mailbox with : "
                     + recipientsAndSubjects.toString());
+        } finally {
+            FlightEvents.end(EventKind.MAIL_WAIT, outcome);
+            StepTimings.stop();
         }
     }
 
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.util;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pool of pre-provisioned test data entities that are leased to stories.
+ * Provisioner runs in background to keep <code>size</code> entities ready.
+ * Leased entity is either returned to the pool when it can be reused or
+ * burned when story changed it. When pool is empty the entity is provisioned
+ * on the calling thread. Pool does not use locks.
+ * <p>
+ * Pool is registered with {@link #register(String, DataProvisioner, int)}
+ * or created on first use from <code>data.pool.&lt;name&gt;.provisioner</code>
+ * class name and <code>data.pool.&lt;name&gt;.size</code> properties.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class DataPool {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(DataPool.class.getName());
+    /**
+     * Pools by name.
+     */
+    private static final Map<String, DataPool> POOLS =
+            new ConcurrentHashMap<>();
+    /**
+     * Background provisioning threads.
+     */
+    private static final ExecutorService PROVISIONING =
+            Executors.newCachedThreadPool((Runnable runnable) -> {
+                final Thread thread = new Thread(runnable, "pawl-data-pool");
+                thread.setDaemon(true);
+                return thread;
+            });
+    /**
+     * Entity provisioner.
+     */
+    private final DataProvisioner provisioner;
+    /**
+     * Quantity of entities to keep ready.
+     */
+    private final int size;
+    /**
+     * Ready entities.
+     */
+    private final Queue<Map<String, String>> available =
+            new ConcurrentLinkedQueue<>();
+    /**
+     * Quantity of entities being provisioned.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * Create pool.
+     *
+     * @param dataProvisioner entity provisioner
+     * @param poolSize        quantity of entities to keep ready
+     */
+    private DataPool(final DataProvisioner dataProvisioner,
+                     final int poolSize) {
+        provisioner = dataProvisioner;
+        size = poolSize;
+    }
+
+    /**
+     * Register pool and start provisioning of its entities.
+     *
+     * @param name        pool name
+     * @param provisioner entity provisioner
+     * @param size        quantity of entities to keep ready
+     * @return registered pool
+     */
+    public static DataPool register(final String name,
+                                    final DataProvisioner provisioner,
+                                    final int size) {
+        final DataPool pool = new DataPool(provisioner, size);
+        POOLS.put(name, pool);
+        pool.refill();
+        return pool;
+    }
+
+    /**
+     * Gets pool by name, pool is created from properties on first use.
+     *
+     * @param name pool name
+     * @return data pool
+     */
+    public static DataPool get(final String name) {
+        DataPool pool = POOLS.get(name);
+        if (pool == null) {
+            final DataPool created = new DataPool(
+                    provisioner(Resources.base().dataPoolProvisioner(name)),
+                    Resources.base().dataPoolSize(name));
+            pool = POOLS.putIfAbsent(name, created);
+            if (pool == null) {
+                pool = created;
+                pool.refill();
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Create provisioner from class name.
+     *
+     * @param className provisioner class name
+     * @return entity provisioner
+     */
+    private static DataProvisioner provisioner(final String className) {
+        if (className == null) {
+            throw new IllegalStateException("Data pool provisioner is not set");
+        }
+        try {
+            return (DataProvisioner) Class.forName(className).newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "Cannot create data pool provisioner " + className, e);
+        }
+    }
+
+    /**
+     * Take entity from the pool.
+     *
+     * @return entity values
+     */
+    public Map<String, String> lease() {
+        Map<String, String> entity = available.poll();
+        if (entity == null) {
+            entity = provisioner.provision();
+        }
+        refill();
+        return entity;
+    }
+
+    /**
+     * Return unchanged entity to the pool.
+     *
+     * @param entity leased entity
+     */
+    public void giveBack(final Map<String, String> entity) {
+        available.offer(entity);
+    }
+
+    /**
+     * Drop entity that cannot be reused and provision a new one.
+     *
+     * @param entity leased entity
+     */
+    public void burn(final Map<String, String> entity) {
+        LOG.fine("Entity is burned: " + entity);
+        refill();
+    }
+
+    /**
+     * Gets quantity of ready entities.
+     *
+     * @return ready entities
+     */
+    public int available() {
+        return available.size();
+    }
+
+    /**
+     * Start background provisioning until pool has enough entities.
+     */
+    private void refill() {
+        int inFlight = pending.get();
+        while (available.size() + inFlight < size) {
+            if (pending.compareAndSet(inFlight, inFlight + 1)) {
+                PROVISIONING.execute(this::provisionOne);
+            }
+            inFlight = pending.get();
+        }
+    }
+
+    /**
+     * Provision one entity into the pool.
+     */
+    private void provisionOne() {
+        try {
+            available.offer(provisioner.provision());
+        } catch (RuntimeException e) {
+            LOG.log(Level.WARNING, "Entity cannot be provisioned", e);
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+}
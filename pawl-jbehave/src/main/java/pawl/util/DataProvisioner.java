@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.util;
+
+import java.util.Map;
+
+/**
+ * Hook that creates test data entity, for example signs up a user account
+ * through application API.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ * @see DataPool
+ */
+@FunctionalInterface
+public interface DataProvisioner {
+    /**
+     * Create new entity.
+     *
+     * @return entity values by field name
+     */
+    Map<String, String> provision();
+}
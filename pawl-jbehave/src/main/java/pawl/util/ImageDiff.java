@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.util;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Result of the screenshot comparison with the image that marks differing
+ * pixels.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class ImageDiff {
+    /**
+     * Percents in one.
+     */
+    private static final double PERCENT = 100.0;
+    /**
+     * Number of differing pixels.
+     */
+    private final long differing;
+    /**
+     * Number of compared pixels.
+     */
+    private final long total;
+    /**
+     * Number of tiles skipped as identical.
+     */
+    private final int skippedTiles;
+    /**
+     * Number of tiles compared pixel by pixel.
+     */
+    private final int diffedTiles;
+    /**
+     * Image with marked differences.
+     */
+    private final BufferedImage image;
+
+    /**
+     * Create result.
+     *
+     * @param differingPixels number of differing pixels
+     * @param totalPixels     number of compared pixels
+     * @param skipped         number of skipped tiles
+     * @param diffed          number of tiles compared pixel by pixel
+     * @param diffImage       image with marked differences
+     */
+    public ImageDiff(final long differingPixels, final long totalPixels,
+                     final int skipped, final int diffed,
+                     final BufferedImage diffImage) {
+        differing = differingPixels;
+        total = totalPixels;
+        skippedTiles = skipped;
+        diffedTiles = diffed;
+        image = diffImage;
+    }
+
+    /**
+     * Gets share of the differing pixels.
+     *
+     * @return differing pixels in percents
+     */
+    public double getDifferingPercent() {
+        if (total == 0) {
+            return 0;
+        }
+        return differing * PERCENT / total;
+    }
+
+    /**
+     * Gets number of differing pixels.
+     *
+     * @return differing pixels
+     */
+    public long getDifferingPixels() {
+        return differing;
+    }
+
+    /**
+     * Gets number of tiles skipped as identical.
+     *
+     * @return skipped tiles
+     */
+    public int getSkippedTiles() {
+        return skippedTiles;
+    }
+
+    /**
+     * Gets number of tiles compared pixel by pixel.
+     *
+     * @return diffed tiles
+     */
+    public int getDiffedTiles() {
+        return diffedTiles;
+    }
+
+    /**
+     * Gets image with marked differences.
+     *
+     * @return diff image
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.3f%% pixels differ (%d), %d tiles skipped,"
+                        + " %d tiles diffed", getDifferingPercent(), differing,
+                skippedTiles, diffedTiles);
+    }
+}
@@ -18,6 +18,8 @@ package pawl.util;
 
 import com.google.common.collect.Maps;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
@@ -48,7 +50,7 @@ import java.util.logging.Logger;
  *
  * @author Alex Voloshyn
  * @author Mike Dolinin
- * @version 1.9 11/21/14
+ * @version 1.27 10/19/26
  * @see ResourceBundle
  */
 public final class Resources {
@@ -127,6 +129,17 @@ public final class Resources {
         return CONTEXT.get();
     }
 
+    /**
+     * Replace context map of the current thread with a copy of the values.
+     *
+     * @param values context values to start with
+     */
+    public static void useContext(final Map<String, String> values) {
+        final Map<String, String> map = Maps.newConcurrentMap();
+        map.putAll(values);
+        CONTEXT.set(map);
+    }
+
     /**
      * Return value for wait after page open key.
      *
@@ -220,6 +233,467 @@ public final class Resources {
         return string("user.web.stories.to.run", "**/*.user.web.story");
     }
 
+    /**
+     * Return port of the local story daemon.
+     *
+     * @return daemon port
+     */
+    public int daemonPort() {
+        return Integer.parseInt(string("daemon.port"));
+    }
+
+    /**
+     * Return port of the local run dashboard.
+     *
+     * @return dashboard port or 0 if dashboard is disabled
+     */
+    public int dashboardPort() {
+        return Integer.parseInt(string("dashboard.port"));
+    }
+
+    /**
+     * Return quantity of worker JVMs for story coordinator.
+     *
+     * @return quantity of workers
+     */
+    public int coordinatorWorkers() {
+        return Integer.parseInt(string("coordinator.workers",
+                String.valueOf(useThreads())));
+    }
+
+    /**
+     * Return directory to search stories in.
+     *
+     * @return stories location
+     */
+    public String storiesLocation() {
+        return string("stories.location");
+    }
+
+    /**
+     * Return flag that state after given stories should be captured and
+     * restored instead of running them again.
+     *
+     * @return true if given stories should be replaced with snapshots
+     */
+    public boolean snapshotGivenStories() {
+        return Boolean.parseBoolean(string("given.stories.snapshot"));
+    }
+
+    /**
+     * Return directory to serialize saved browser sessions to.
+     *
+     * @return directory or empty string if sessions are kept in memory only
+     */
+    public String browserSessionsDirectory() {
+        return string("browser.sessions.directory", "");
+    }
+
+    /**
+     * Return class name of the data pool provisioner.
+     *
+     * @param pool data pool name
+     * @return provisioner class name or null if it is not set
+     */
+    public String dataPoolProvisioner(final String pool) {
+        return string("data.pool." + pool + ".provisioner");
+    }
+
+    /**
+     * Return quantity of entities to keep ready in the data pool.
+     *
+     * @param pool data pool name
+     * @return pool size
+     */
+    public int dataPoolSize(final String pool) {
+        return Integer.parseInt(string("data.pool." + pool + ".size",
+                string("data.pool.size")));
+    }
+
+    /**
+     * Return flag that browsers should be kept open and reused between
+     * stories instead of quitting them.
+     *
+     * @return true if drivers should be reused
+     */
+    public boolean reuseDrivers() {
+        return Boolean.parseBoolean(string("webdriver.reuse"));
+    }
+
+    /**
+     * Return flag that Java Flight Recorder events should be emitted when
+     * JFR is available. Disabled by default.
+     *
+     * @return true if flight recorder events are enabled
+     */
+    public boolean flightEvents() {
+        return Boolean.parseBoolean(string("jfr.events"));
+    }
+
+    /**
+     * Return flag that load metrics should be captured when page is opened.
+     *
+     * @return true if page timings are captured
+     */
+    public boolean pageTimings() {
+        return Boolean.parseBoolean(string("page.timings"));
+    }
+
+    /**
+     * Return flag that JS heap of the browser should be sampled after each
+     * step.
+     *
+     * @return true if JS heap is sampled
+     */
+    public boolean jsHeapSampling() {
+        return Boolean.parseBoolean(string("js.heap.sampling"));
+    }
+
+    /**
+     * Return name of the throttling profile applied to Chrome drivers or
+     * empty string when browsers are not throttled.
+     *
+     * @return throttling profile name
+     */
+    public String throttlingProfile() {
+        return string("throttling.profile");
+    }
+
+    /**
+     * Return definition of the throttling profile: latency in milliseconds,
+     * download and upload throughput in kilobits per second and CPU
+     * slowdown rate separated by comma.
+     *
+     * @param name profile name
+     * @return profile definition or empty string if profile is not defined
+     */
+    public String throttlingProfileDefinition(final String name) {
+        return string("throttling.profile." + name, "");
+    }
+
+    /**
+     * Return flag that waits should fail early on application error signals.
+     * Disabled by default.
+     *
+     * @return true if waits watch for error signals
+     */
+    public boolean abortOnErrors() {
+        return Boolean.parseBoolean(string("abort.on.errors"));
+    }
+
+    /**
+     * Return flag that uncaught JavaScript errors fail waits. Disabled by
+     * default.
+     *
+     * @return true if JavaScript errors abort waits
+     */
+    public boolean abortOnJsErrors() {
+        return Boolean.parseBoolean(string("abort.on.js.errors"));
+    }
+
+    /**
+     * Return flag that HTTP error status of the page fails waits.
+     *
+     * @return true if HTTP errors abort waits
+     */
+    public boolean abortOnHttpErrors() {
+        return Boolean.parseBoolean(string("abort.on.http.errors"));
+    }
+
+    /**
+     * Return CSS selectors of the error page elements separated by
+     * semicolon.
+     *
+     * @return error page selectors
+     */
+    public List<String> abortSelectors() {
+        final List<String> selectors = new ArrayList<>();
+        for (String selector : string("abort.selectors", "").split(";")) {
+            if (!selector.trim().isEmpty()) {
+                selectors.add(selector.trim());
+            }
+        }
+        return selectors;
+    }
+
+    /**
+     * Return regular expression of the error page titles or empty string.
+     *
+     * @return error page titles pattern
+     */
+    public String abortTitles() {
+        return string("abort.titles", "");
+    }
+
+    /**
+     * Return interval of driver health checks in seconds or zero when
+     * drivers are not watched.
+     *
+     * @return watchdog interval in seconds
+     */
+    public int watchdogInterval() {
+        return Integer.parseInt(string("watchdog.interval.seconds"));
+    }
+
+    /**
+     * Return time in seconds after which driver command without response
+     * means hung driver.
+     *
+     * @return hang threshold in seconds
+     */
+    public int watchdogHang() {
+        return Integer.parseInt(string("watchdog.hang.seconds"));
+    }
+
+    /**
+     * Return default step deadline in seconds or zero when steps have no
+     * deadline.
+     *
+     * @return step deadline in seconds
+     */
+    public int stepDeadline() {
+        return Integer.parseInt(string("step.deadline.seconds"));
+    }
+
+    /**
+     * Return step deadlines by step pattern in form
+     * <code>pattern=seconds</code> separated by semicolon.
+     *
+     * @return step deadlines by pattern
+     */
+    public String stepDeadlines() {
+        return string("step.deadlines", "");
+    }
+
+    /**
+     * Return number of immediate retries of the failed story.
+     *
+     * @return number of retries
+     */
+    public int storyRetries() {
+        return Integer.parseInt(string("story.retries"));
+    }
+
+    /**
+     * Return wall time budget of all retries in a run in seconds.
+     *
+     * @return retry budget in seconds
+     */
+    public long storyRetryBudget() {
+        return Long.parseLong(string("story.retry.budget.seconds"));
+    }
+
+    /**
+     * Return path of the story flakiness history file.
+     *
+     * @return history file path
+     */
+    public String storyFlakinessHistory() {
+        return string("story.flakiness.history");
+    }
+
+    /**
+     * Return path of the story run history file.
+     *
+     * @return history file path
+     */
+    public String storyRunHistory() {
+        return string("story.run.history");
+    }
+
+    /**
+     * Return flag that no more stories should be scheduled after the first
+     * failure.
+     *
+     * @return true if run fails fast
+     */
+    public boolean storyFailFast() {
+        return Boolean.parseBoolean(string("story.fail.fast"));
+    }
+
+    /**
+     * Return flag that only stories affected by changes since their last
+     * green run should run.
+     *
+     * @return true if unaffected stories are skipped
+     */
+    public boolean storyAffectedOnly() {
+        return Boolean.parseBoolean(string("story.affected.only"));
+    }
+
+    /**
+     * Return path of the file with inputs of the green story runs.
+     *
+     * @return history file path
+     */
+    public String storyAffectedHistory() {
+        return string("story.affected.history");
+    }
+
+    /**
+     * Return flag that the batch run resumes from its checkpoint journal.
+     *
+     * @return true if finished stories are skipped
+     */
+    public boolean storyResume() {
+        return Boolean.parseBoolean(string("story.resume"));
+    }
+
+    /**
+     * Return path of the checkpoint journal of the batch run.
+     *
+     * @return journal file path
+     */
+    public String storyCheckpointJournal() {
+        return string("story.checkpoint.journal");
+    }
+
+    /**
+     * Return flag that console and text reports are written by a separate
+     * writer thread.
+     *
+     * @return true if reports are written asynchronously
+     */
+    public boolean reporterAsync() {
+        return Boolean.parseBoolean(string("reporter.async"));
+    }
+
+    /**
+     * Return capacity of the asynchronous reporter buffer in events.
+     *
+     * @return buffer capacity
+     */
+    public int reporterAsyncBuffer() {
+        return Integer.parseInt(string("reporter.async.buffer"));
+    }
+
+    /**
+     * Return area captured on failure: page, viewport or element.
+     *
+     * @return screenshot mode
+     */
+    public String screenshotMode() {
+        return string("screenshot.mode");
+    }
+
+    /**
+     * Return size cap of the failure screenshots of a run in megabytes.
+     *
+     * @return size cap in megabytes
+     */
+    public long screenshotMaxMb() {
+        return Long.parseLong(string("screenshot.max.mb"));
+    }
+
+    /**
+     * Return flag that DOM snapshots of the last steps are traced.
+     *
+     * @return true if failure traces are written
+     */
+    public boolean domTrace() {
+        return Boolean.parseBoolean(string("dom.trace"));
+    }
+
+    /**
+     * Return number of the last steps kept in the failure trace.
+     *
+     * @return number of steps
+     */
+    public int domTraceSteps() {
+        return Integer.parseInt(string("dom.trace.steps"));
+    }
+
+    /**
+     * Return maximum size of the snapshot HTML and styles in kilobytes.
+     *
+     * @return size in kilobytes
+     */
+    public int domTraceMaxKb() {
+        return Integer.parseInt(string("dom.trace.max.kb"));
+    }
+
+    /**
+     * Return directory of the visual baselines.
+     *
+     * @return baselines directory
+     */
+    public String visualBaselines() {
+        return string("visual.baselines");
+    }
+
+    /**
+     * Return flag that visual baselines are replaced by actual screenshots.
+     *
+     * @return true if baselines are updated
+     */
+    public boolean visualUpdate() {
+        return Boolean.parseBoolean(string("visual.update"));
+    }
+
+    /**
+     * Return size of the compared screenshot tiles in pixels.
+     *
+     * @return tile size
+     */
+    public int visualTileSize() {
+        return Integer.parseInt(string("visual.tile.size"));
+    }
+
+    /**
+     * Return maximum channel delta of the pixels treated as equal.
+     *
+     * @return pixel threshold
+     */
+    public int visualPixelThreshold() {
+        return Integer.parseInt(string("visual.pixel.threshold"));
+    }
+
+    /**
+     * Return percent of the pixels allowed to differ from baseline.
+     *
+     * @return tolerance in percent
+     */
+    public double visualTolerancePercent() {
+        return Double.parseDouble(string("visual.tolerance.percent"));
+    }
+
+    /**
+     * Return flag that span traces of the run should be exported.
+     *
+     * @return true if traces are exported
+     */
+    public boolean traceExport() {
+        return Boolean.parseBoolean(string("trace.export"));
+    }
+
+    /**
+     * Return URL of the local OTLP collector that receives traces or empty
+     * string if traces are only written to file.
+     *
+     * @return collector URL
+     */
+    public String traceCollector() {
+        return string("trace.collector");
+    }
+
+    /**
+     * Return maximum number of the finished spans kept until the run ends.
+     *
+     * @return number of spans
+     */
+    public int traceMaxSpans() {
+        return Integer.parseInt(string("trace.max.spans"));
+    }
+
+    /**
+     * Return date format used in names of report files.
+     *
+     * @return date format pattern
+     */
+    public String dateFormat() {
+        return string("date.format");
+    }
+
     /**
      * Gets a string for the given key from system properties or resource
      * bundle. And return default value from input in case when property with
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.util;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Screenshot comparison by tiles. Tiles with identical pixels are skipped,
+ * only the remaining tiles are compared pixel by pixel, a pixel differs when
+ * one of its channels differs by more than the threshold. Images of different
+ * size differ in every pixel.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class TiledImageComparison {
+    /**
+     * Number of color channels.
+     */
+    private static final int CHANNELS = 3;
+    /**
+     * Bits per color channel.
+     */
+    private static final int BITS = 8;
+    /**
+     * Mask of the color channel.
+     */
+    private static final int MASK = 0xFF;
+    /**
+     * Color of the differing pixels.
+     */
+    private static final int MARK = 0xFFFF0000;
+    /**
+     * Mask that fades equal pixels of the diff image.
+     */
+    private static final int FADE = 0x7F7F7F;
+    /**
+     * Opaque alpha channel.
+     */
+    private static final int OPAQUE = 0xFF000000;
+    /**
+     * Tile side in pixels.
+     */
+    private final int tile;
+    /**
+     * Maximum difference of the equal channels.
+     */
+    private final int threshold;
+
+    /**
+     * Create comparison.
+     *
+     * @param tileSize       tile side in pixels
+     * @param pixelThreshold maximum difference of the equal channels
+     */
+    public TiledImageComparison(final int tileSize, final int pixelThreshold) {
+        tile = tileSize;
+        threshold = pixelThreshold;
+    }
+
+    /**
+     * Compare screenshot with baseline.
+     *
+     * @param baseline baseline image
+     * @param actual   actual image
+     * @return comparison result
+     */
+    public ImageDiff compare(final BufferedImage baseline,
+                             final BufferedImage actual) {
+        final int width = actual.getWidth();
+        final int height = actual.getHeight();
+        if (baseline.getWidth() != width || baseline.getHeight() != height) {
+            final long total = Math.max((long) width * height,
+                    (long) baseline.getWidth() * baseline.getHeight());
+            return new ImageDiff(total, total, 0, 0, actual);
+        }
+        final int[] expected = baseline.getRGB(0, 0, width, height, null, 0,
+                width);
+        final int[] pixels = actual.getRGB(0, 0, width, height, null, 0,
+                width);
+        final int[] marked = new int[pixels.length];
+        for (int i = 0; i < pixels.length; i++) {
+            marked[i] = OPAQUE | (pixels[i] >> 1) & FADE;
+        }
+        long differing = 0;
+        int skipped = 0;
+        int diffed = 0;
+        for (int y = 0; y < height; y += tile) {
+            for (int x = 0; x < width; x += tile) {
+                final int w = Math.min(tile, width - x);
+                final int h = Math.min(tile, height - y);
+                if (identical(expected, pixels, width, x, y, w, h)) {
+                    skipped++;
+                } else {
+                    diffed++;
+                    differing += diff(expected, pixels, marked, width,
+                            x, y, w, h);
+                }
+            }
+        }
+        BufferedImage image = null;
+        if (differing > 0) {
+            image = new BufferedImage(width, height,
+                    BufferedImage.TYPE_INT_ARGB);
+            image.setRGB(0, 0, width, height, marked, 0, width);
+        }
+        return new ImageDiff(differing, (long) width * height, skipped,
+                diffed, image);
+    }
+
+    /**
+     * Check that tile pixels are identical.
+     *
+     * @param a     first image pixels
+     * @param b     second image pixels
+     * @param width image width
+     * @param x     tile left
+     * @param y     tile top
+     * @param w     tile width
+     * @param h     tile height
+     * @return true if pixels are identical
+     */
+    private static boolean identical(final int[] a, final int[] b,
+                                     final int width, final int x,
+                                     final int y, final int w, final int h) {
+        for (int row = y; row < y + h; row++) {
+            final int start = row * width + x;
+            for (int i = start; i < start + w; i++) {
+                if (a[i] != b[i]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compare tile pixel by pixel and mark differing pixels.
+     *
+     * @param a      baseline pixels
+     * @param b      actual pixels
+     * @param marked diff image pixels
+     * @param width  image width
+     * @param x      tile left
+     * @param y      tile top
+     * @param w      tile width
+     * @param h      tile height
+     * @return number of differing pixels
+     */
+    private int diff(final int[] a, final int[] b, final int[] marked,
+                     final int width, final int x, final int y, final int w,
+                     final int h) {
+        int differing = 0;
+        for (int row = y; row < y + h; row++) {
+            final int start = row * width + x;
+            for (int i = start; i < start + w; i++) {
+                if (a[i] != b[i] && differs(a[i], b[i])) {
+                    marked[i] = MARK;
+                    differing++;
+                }
+            }
+        }
+        return differing;
+    }
+
+    /**
+     * Check that one of the pixel channels differs by more than threshold.
+     *
+     * @param a first pixel
+     * @param b second pixel
+     * @return true if pixels differ
+     */
+    private boolean differs(final int a, final int b) {
+        for (int c = 0; c < CHANNELS; c++) {
+            final int shift = c * BITS;
+            if (Math.abs((a >> shift & MASK) - (b >> shift & MASK))
+                    > threshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
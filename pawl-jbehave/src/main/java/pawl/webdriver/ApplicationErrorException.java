@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.webdriver;
+
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Thrown when the application under test shows fatal error while browser
+ * waits for a condition, so the wait should not run until timeout.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ * @see ErrorSignals
+ */
+public class ApplicationErrorException extends WebDriverException {
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Create exception.
+     *
+     * @param message description of the error signal
+     */
+    public ApplicationErrorException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.webdriver;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import pawl.util.Resources;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Snapshot of the browser state: current URL, cookies, local and session
+ * storage and test context. The snapshot can be restored into another
+ * driver to continue from the same point without replaying user actions.
+ * WebDriver exposes cookies and web storage of the current page only, so
+ * the snapshot has cookies of the current domain and storage of the current
+ * origin; state of other domains is neither captured nor restored.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class BrowserState implements Serializable {
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(BrowserState.class.getName());
+    /**
+     * Local storage name.
+     */
+    private static final String LOCAL_STORAGE = "localStorage";
+    /**
+     * Session storage name.
+     */
+    private static final String SESSION_STORAGE = "sessionStorage";
+    /**
+     * Script that reads web storage to object.
+     */
+    private static final String READ_STORAGE =
+            "var s = window[arguments[0]], r = {};"
+                    + "for (var i = 0; i < s.length; i++) {"
+                    + "var k = s.key(i); r[k] = s.getItem(k); }"
+                    + "return r;";
+    /**
+     * Script that clears web storage.
+     */
+    private static final String CLEAR_STORAGE = "window[arguments[0]].clear();";
+    /**
+     * Script that writes item to web storage.
+     */
+    private static final String WRITE_STORAGE =
+            "window[arguments[0]].setItem(arguments[1], arguments[2]);";
+    /**
+     * Current URL.
+     */
+    private final String url;
+    /**
+     * Browser cookies.
+     */
+    private final Set<Cookie> cookies;
+    /**
+     * Local storage items.
+     */
+    private final Map<String, String> local;
+    /**
+     * Session storage items.
+     */
+    private final Map<String, String> session;
+    /**
+     * Test context values.
+     */
+    private final Map<String, String> context;
+
+    /**
+     * Create snapshot.
+     *
+     * @param currentUrl     current URL
+     * @param browserCookies browser cookies
+     * @param localStorage   local storage items
+     * @param sessionStorage session storage items
+     * @param testContext    test context values
+     */
+    private BrowserState(final String currentUrl,
+                         final Set<Cookie> browserCookies,
+                         final Map<String, String> localStorage,
+                         final Map<String, String> sessionStorage,
+                         final Map<String, String> testContext) {
+        url = currentUrl;
+        cookies = browserCookies;
+        local = localStorage;
+        session = sessionStorage;
+        context = testContext;
+    }
+
+    /**
+     * Capture state of the browser and test context of the current thread.
+     *
+     * @param driver browser driver
+     * @return browser state
+     */
+    public static BrowserState capture(final WebDriver driver) {
+        return new BrowserState(driver.getCurrentUrl(),
+                new HashSet<>(driver.manage().getCookies()),
+                readStorage(driver, LOCAL_STORAGE),
+                readStorage(driver, SESSION_STORAGE),
+                new HashMap<>(Resources.context()));
+    }
+
+    /**
+     * Restore state into the browser and test context of the current thread.
+     * Browser opens the captured URL, so cookies can be set for its domain,
+     * and the page is loaded again with the restored state.
+     *
+     * @param driver browser driver
+     */
+    public void restore(final WebDriver driver) {
+        driver.get(url);
+        driver.manage().deleteAllCookies();
+        for (Cookie cookie : cookies) {
+            try {
+                driver.manage().addCookie(cookie);
+            } catch (WebDriverException e) {
+                LOG.log(Level.FINE, "Cookie cannot be restored: "
+                        + cookie.getName(), e);
+            }
+        }
+        writeStorage(driver, LOCAL_STORAGE, local);
+        writeStorage(driver, SESSION_STORAGE, session);
+        driver.get(url);
+        Resources.context().putAll(context);
+    }
+
+    /**
+     * Create copy of the snapshot with browser session only, without test
+     * context values.
+     *
+     * @return browser session state
+     */
+    public BrowserState withoutContext() {
+        return new BrowserState(url, cookies, local, session,
+                new HashMap<>());
+    }
+
+    /**
+     * Gets captured URL.
+     *
+     * @return URL
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Read web storage items.
+     *
+     * @param driver  browser driver
+     * @param storage storage name
+     * @return storage items or empty map if storage is not supported
+     */
+    private static Map<String, String> readStorage(final WebDriver driver,
+                                                   final String storage) {
+        final Map<String, String> items = new HashMap<>();
+        if (!(driver instanceof JavascriptExecutor)) {
+            return items;
+        }
+        try {
+            final Object result = ((JavascriptExecutor) driver)
+                    .executeScript(READ_STORAGE, storage);
+            if (result instanceof Map) {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) result).entrySet()) {
+                    items.put(String.valueOf(entry.getKey()),
+                            String.valueOf(entry.getValue()));
+                }
+            }
+        } catch (WebDriverException e) {
+            LOG.log(Level.FINE, storage + " cannot be read", e);
+        }
+        return items;
+    }
+
+    /**
+     * Replace web storage items.
+     *
+     * @param driver  browser driver
+     * @param storage storage name
+     * @param items   storage items
+     */
+    private static void writeStorage(final WebDriver driver,
+                                     final String storage,
+                                     final Map<String, String> items) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return;
+        }
+        final JavascriptExecutor executor = (JavascriptExecutor) driver;
+        try {
+            executor.executeScript(CLEAR_STORAGE, storage);
+            for (Map.Entry<String, String> item : items.entrySet()) {
+                executor.executeScript(WRITE_STORAGE, storage,
+                        item.getKey(), item.getValue());
+            }
+        } catch (WebDriverException e) {
+            LOG.log(Level.FINE, storage + " cannot be restored", e);
+        }
+    }
+}
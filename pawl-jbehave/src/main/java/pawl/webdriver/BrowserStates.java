@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.webdriver;
+
+import pawl.util.Resources;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Named browser state snapshots shared by all stories and threads of the
+ * JVM. Saved sessions are also serialized to the
+ * <code>browser.sessions.directory</code> when it is set, so other JVMs of
+ * the same run can restore them.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class BrowserStates {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(BrowserStates.class.getName());
+    /**
+     * Session file extension.
+     */
+    private static final String EXTENSION = ".session";
+    /**
+     * Snapshots by name.
+     */
+    private static final Map<String, BrowserState> STATES =
+            new ConcurrentHashMap<>();
+
+    /**
+     * For non-instantiability.
+     */
+    private BrowserStates() {
+        super();
+    }
+
+    /**
+     * Save snapshot.
+     *
+     * @param name  snapshot name
+     * @param state browser state
+     */
+    public static void put(final String name, final BrowserState state) {
+        STATES.put(name, state);
+    }
+
+    /**
+     * Gets snapshot.
+     *
+     * @param name snapshot name
+     * @return browser state or null if there is no such snapshot
+     */
+    public static BrowserState get(final String name) {
+        return STATES.get(name);
+    }
+
+    /**
+     * Save snapshot and serialize it when sessions directory is set.
+     *
+     * @param name  snapshot name
+     * @param state browser state
+     */
+    public static void save(final String name, final BrowserState state) {
+        put(name, state);
+        final File file = file(name);
+        if (file == null) {
+            return;
+        }
+        if (!file.getParentFile().exists() && !file.getParentFile().mkdirs()) {
+            LOG.warning("Cannot create directory " + file.getParent());
+        }
+        try (ObjectOutputStream out = new ObjectOutputStream(
+                new FileOutputStream(file))) {
+            out.writeObject(state);
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot save browser session " + name, e);
+        }
+    }
+
+    /**
+     * Gets snapshot from memory or from sessions directory.
+     *
+     * @param name snapshot name
+     * @return browser state or null if there is no such snapshot
+     */
+    public static BrowserState load(final String name) {
+        final BrowserState state = get(name);
+        final File file = file(name);
+        if (state != null || file == null || !file.exists()) {
+            return state;
+        }
+        try (ObjectInputStream in = new ObjectInputStream(
+                new FileInputStream(file))) {
+            final BrowserState loaded = (BrowserState) in.readObject();
+            put(name, loaded);
+            return loaded;
+        } catch (IOException | ClassNotFoundException e) {
+            LOG.log(Level.WARNING, "Cannot load browser session " + name, e);
+            return null;
+        }
+    }
+
+    /**
+     * Gets file of the serialized session.
+     *
+     * @param name snapshot name
+     * @return session file or null if sessions directory is not set
+     */
+    private static File file(final String name) {
+        final String directory = Resources.base().browserSessionsDirectory();
+        if (directory == null || directory.isEmpty()) {
+            return null;
+        }
+        return new File(directory,
+                name.replaceAll("[^A-Za-z0-9._-]", "_") + EXTENSION);
+    }
+
+    /**
+     * Check that snapshot exists.
+     *
+     * @param name snapshot name
+     * @return true if snapshot is saved
+     */
+    public static boolean contains(final String name) {
+        return get(name) != null;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.webdriver;
+
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Sends Chrome DevTools protocol commands through the
+ * <code>chromium/send_command</code> endpoint of the local ChromeDriver
+ * server.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class ChromeDevTools {
+    /**
+     * Connection and read timeout in milliseconds.
+     */
+    private static final int TIMEOUT = 10000;
+
+    /**
+     * For non-instantiability.
+     */
+    private ChromeDevTools() {
+        super();
+    }
+
+    /**
+     * Send DevTools command.
+     *
+     * @param driver  Chrome driver
+     * @param command DevTools method, like
+     *                <code>Network.emulateNetworkConditions</code>
+     * @param params  method parameters as JSON object
+     */
+    public static void send(final RemoteWebDriver driver, final String command,
+                            final String params) {
+        final CommandExecutor executor = driver.getCommandExecutor();
+        if (!(executor instanceof HttpCommandExecutor)) {
+            throw new WebDriverException("Driver is not served over HTTP");
+        }
+        final String address = ((HttpCommandExecutor) executor)
+                .getAddressOfRemoteServer().toExternalForm();
+        final String body = "{\"cmd\": \"" + command + "\", \"params\": "
+                + params + "}";
+        try {
+            final HttpURLConnection connection = (HttpURLConnection)
+                    new URL(address + "/session/" + driver.getSessionId()
+                            + "/chromium/send_command").openConnection();
+            connection.setConnectTimeout(TIMEOUT);
+            connection.setReadTimeout(TIMEOUT);
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type",
+                    "application/json; charset=utf-8");
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+            final int code = connection.getResponseCode();
+            connection.disconnect();
+            if (code != HttpURLConnection.HTTP_OK) {
+                throw new WebDriverException(command + " failed with HTTP "
+                        + code);
+            }
+        } catch (IOException e) {
+            throw new WebDriverException("Cannot send " + command, e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.webdriver;
+
+/**
+ * Listener of the commands sent to the browser driver.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ * @see DriverCommands
+ */
+public interface CommandListener {
+    /**
+     * Called before command is sent.
+     *
+     * @param command driver command name
+     */
+    void beforeCommand(String command);
+
+    /**
+     * Called after command response is received or failed.
+     *
+     * @param command driver command name
+     * @param nanos   round trip time in nanoseconds
+     * @param failure failure or null if command succeeded
+     */
+    void afterCommand(String command, long nanos, Throwable failure);
+}
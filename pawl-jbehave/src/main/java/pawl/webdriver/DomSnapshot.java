@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.webdriver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+
+/**
+ * Compact serialized DOM of the current page: HTML without scripts with the
+ * current values of the form fields, style rules that match elements of the
+ * page, URL and title. The capture script watches DOM mutations and user
+ * input, so a page that did not change since the previous capture is not
+ * serialized and transferred again.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class DomSnapshot {
+    /**
+     * Script that serializes the page or returns null if it is unchanged.
+     */
+    private static final String CAPTURE =
+            "var d = document, w = window, limit = arguments[0], i, j;"
+            + "var t = w.__pawlTrace;"
+            + "if (t && t.observed && !t.dirty && !arguments[1]) {"
+            + " return null;"
+            + "}"
+            + "if (!t) {"
+            + " t = w.__pawlTrace = {observed: false};"
+            + " if (w.MutationObserver) {"
+            + "  new MutationObserver(function () { t.dirty = true; })"
+            + "   .observe(d.documentElement, {subtree: true,"
+            + "    childList: true, attributes: true, characterData: true});"
+            + "  d.addEventListener('input', function () { t.dirty = true; },"
+            + "   true);"
+            + "  d.addEventListener('change', function () { t.dirty = true; },"
+            + "   true);"
+            + "  t.observed = true;"
+            + " }"
+            + "}"
+            + "t.dirty = false;"
+            + "var css = '';"
+            + "for (i = 0; i < d.styleSheets.length; i++) {"
+            + " try {"
+            + "  var rules = d.styleSheets[i].cssRules;"
+            + "  for (j = 0; j < rules.length && css.length < limit; j++) {"
+            + "   try {"
+            + "    if (!rules[j].selectorText"
+            + "     || d.querySelector(rules[j].selectorText)) {"
+            + "     css += rules[j].cssText + '\\n';"
+            + "    }"
+            + "   } catch (e) { }"
+            + "  }"
+            + " } catch (e) { }"
+            + "}"
+            + "var clone = d.documentElement.cloneNode(true);"
+            + "var fields = 'input,textarea,select';"
+            + "var live = d.documentElement.querySelectorAll(fields);"
+            + "var copies = clone.querySelectorAll(fields);"
+            + "for (i = 0; i < live.length && i < copies.length; i++) {"
+            + " var f = live[i], c = copies[i];"
+            + " if (f.type === 'checkbox' || f.type === 'radio') {"
+            + "  if (f.checked) { c.setAttribute('checked', 'checked'); }"
+            + "  else { c.removeAttribute('checked'); }"
+            + " } else if (f.tagName === 'TEXTAREA') {"
+            + "  c.textContent = f.value;"
+            + " } else if (f.tagName === 'SELECT') {"
+            + "  for (j = 0; j < f.options.length; j++) {"
+            + "   if (f.options[j].selected) {"
+            + "    c.options[j].setAttribute('selected', 'selected');"
+            + "   } else { c.options[j].removeAttribute('selected'); }"
+            + "  }"
+            + " } else if (f.type !== 'password' && f.type !== 'file') {"
+            + "  c.setAttribute('value', f.value);"
+            + " }"
+            + "}"
+            + "var drop = clone.querySelectorAll("
+            + " 'script,noscript,style,link[rel=stylesheet],iframe');"
+            + "for (i = 0; i < drop.length; i++) {"
+            + " drop[i].parentNode.removeChild(drop[i]);"
+            + "}"
+            + "return {url: w.location.href, title: d.title,"
+            + " html: clone.outerHTML.substring(0, limit),"
+            + " css: css.substring(0, limit)};";
+    /**
+     * Page URL.
+     */
+    private final String url;
+    /**
+     * Page title.
+     */
+    private final String title;
+    /**
+     * Serialized HTML.
+     */
+    private final String html;
+    /**
+     * Style rules that match elements of the page.
+     */
+    private final String css;
+
+    /**
+     * Create snapshot.
+     *
+     * @param pageUrl   page URL
+     * @param pageTitle page title
+     * @param pageHtml  serialized HTML
+     * @param pageCss   matching style rules
+     */
+    public DomSnapshot(final String pageUrl, final String pageTitle,
+                       final String pageHtml, final String pageCss) {
+        url = pageUrl;
+        title = pageTitle;
+        html = pageHtml;
+        css = pageCss;
+    }
+
+    /**
+     * Capture snapshot of the page opened in browser.
+     *
+     * @param driver   browser driver
+     * @param maxChars maximum length of HTML and of style rules
+     * @param force    flag that unchanged page should be captured too
+     * @return snapshot or null if page did not change since the previous
+     * capture
+     */
+    @SuppressWarnings("unchecked")
+    public static DomSnapshot capture(final WebDriver driver,
+                                      final int maxChars,
+                                      final boolean force) {
+        final Map<String, Object> result = (Map<String, Object>)
+                ((JavascriptExecutor) driver).executeScript(CAPTURE,
+                        maxChars, force);
+        if (result == null) {
+            return null;
+        }
+        return new DomSnapshot(text(result.get("url")),
+                text(result.get("title")), text(result.get("html")),
+                text(result.get("css")));
+    }
+
+    /**
+     * Read text from script result.
+     *
+     * @param value script value
+     * @return text or empty string
+     */
+    private static String text(final Object value) {
+        if (value == null) {
+            return "";
+        }
+        return value.toString();
+    }
+
+    /**
+     * Gets page URL.
+     *
+     * @return page URL
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Gets page title.
+     *
+     * @return page title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Gets serialized HTML.
+     *
+     * @return HTML without scripts
+     */
+    public String getHtml() {
+        return html;
+    }
+
+    /**
+     * Gets style rules that match elements of the page.
+     *
+     * @return style rules
+     */
+    public String getCss() {
+        return css;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.webdriver;
+
+import org.openqa.selenium.remote.Response;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Notifies listeners about each command that drivers created by
+ * {@link LocalizedWebDriverProvider} send to the browser. Without listeners
+ * command is executed directly.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class DriverCommands {
+    /**
+     * Registered listeners.
+     */
+    private static final List<CommandListener> LISTENERS =
+            new CopyOnWriteArrayList<>();
+
+    /**
+     * For non-instantiability.
+     */
+    private DriverCommands() {
+        super();
+    }
+
+    /**
+     * Register listener.
+     *
+     * @param listener to add
+     */
+    public static void addListener(final CommandListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Remove listener.
+     *
+     * @param listener to remove
+     */
+    public static void removeListener(final CommandListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Execute command and notify listeners.
+     *
+     * @param command driver command name
+     * @param call    command execution
+     * @return command response
+     */
+    public static Response execute(final String command,
+                                   final Supplier<Response> call) {
+        if (LISTENERS.isEmpty()) {
+            return call.get();
+        }
+        for (CommandListener listener : LISTENERS) {
+            listener.beforeCommand(command);
+        }
+        final long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return call.get();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            final long nanos = System.nanoTime() - start;
+            for (CommandListener listener : LISTENERS) {
+                listener.afterCommand(command, nanos, failure);
+            }
+        }
+    }
+}
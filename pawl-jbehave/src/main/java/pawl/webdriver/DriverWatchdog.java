@@ -0,0 +1,370 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.webdriver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import pawl.util.Resources;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Watches health of the active drivers. Every
+ * <code>watchdog.interval.seconds</code> it checks how long the running
+ * command waits for response and asks the driver server for the URL of each
+ * idle browser session. Driver whose session fails consecutive checks is
+ * crashed and driver with command running longer than
+ * <code>watchdog.hang.seconds</code> is hung. Such driver is quit, which
+ * stops the browser and driver processes, so the blocked story thread fails
+ * with driver error instead of waiting for the story timeout, and the driver
+ * is never reused.
+ * <p>
+ * Sessions are checked through the HTTP address of the driver server, so
+ * crashes are detected for drivers like Chrome and remote drivers. Firefox
+ * driver of Selenium 2 talks to its browser without a driver server, so for
+ * Firefox only hung commands are detected.
+ *
+ * @author Alex Voloshyn
+ * @version 1.2 10/19/26
+ */
+public final class DriverWatchdog {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(DriverWatchdog.class.getName());
+    /**
+     * Number of failed session checks that means crashed driver.
+     */
+    private static final int CHECK_FAILURES = 2;
+    /**
+     * Status of the JSON wire protocol response.
+     */
+    private static final Pattern STATUS =
+            Pattern.compile("\"status\"\\s*:\\s*(\\d+)");
+    /**
+     * Nanoseconds in second.
+     */
+    private static final long NANOS_IN_SECOND = 1000000000L;
+    /**
+     * Milliseconds in second.
+     */
+    private static final int MILLIS_IN_SECOND = 1000;
+    /**
+     * Number of recovered crashed drivers.
+     */
+    private static final AtomicLong CRASHED = new AtomicLong();
+    /**
+     * Number of recovered hung drivers.
+     */
+    private static final AtomicLong HUNG = new AtomicLong();
+    /**
+     * Watched drivers by owner thread.
+     */
+    private static final Map<Thread, Watched> ACTIVE =
+            new ConcurrentHashMap<>();
+    /**
+     * Drivers quit by watchdog.
+     */
+    private static final Map<WebDriver, String> RECOVERED =
+            new ConcurrentHashMap<>();
+    /**
+     * Flag that watchdog is started.
+     */
+    private static final AtomicBoolean STARTED = new AtomicBoolean();
+
+    /**
+     * For non-instantiability.
+     */
+    private DriverWatchdog() {
+        super();
+    }
+
+    /**
+     * Watch driver used by current thread.
+     *
+     * @param driver browser driver
+     */
+    public static void watch(final WebDriver driver) {
+        final int interval = Resources.base().watchdogInterval();
+        if (interval <= 0) {
+            return;
+        }
+        if (STARTED.compareAndSet(false, true)) {
+            DriverCommands.addListener(new CommandListener() {
+                @Override
+                public void beforeCommand(final String command) {
+                    final Watched watched =
+                            ACTIVE.get(Thread.currentThread());
+                    if (watched != null) {
+                        watched.command = command;
+                        watched.started = System.nanoTime();
+                    }
+                }
+
+                @Override
+                public void afterCommand(final String command,
+                                         final long nanos,
+                                         final Throwable failure) {
+                    final Watched watched =
+                            ACTIVE.get(Thread.currentThread());
+                    if (watched != null) {
+                        watched.started = 0;
+                    }
+                }
+            });
+            final ScheduledExecutorService executor =
+                    Executors.newSingleThreadScheduledExecutor((Runnable r) -> {
+                        final Thread thread = new Thread(r, "pawl-watchdog");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.scheduleWithFixedDelay(DriverWatchdog::inspect,
+                    interval, interval, TimeUnit.SECONDS);
+        }
+        ACTIVE.put(Thread.currentThread(), new Watched(driver));
+    }
+
+    /**
+     * Stop watching driver of current thread.
+     */
+    public static void release() {
+        ACTIVE.remove(Thread.currentThread());
+    }
+
+    /**
+     * Check that driver was quit by watchdog and forget it.
+     *
+     * @param driver browser driver
+     * @return true if driver was recovered
+     */
+    public static boolean recovered(final WebDriver driver) {
+        return RECOVERED.remove(driver) != null;
+    }
+
+    /**
+     * Gets number of recovered crashed drivers.
+     *
+     * @return number of crashed drivers
+     */
+    public static long crashed() {
+        return CRASHED.get();
+    }
+
+    /**
+     * Gets number of recovered hung drivers.
+     *
+     * @return number of hung drivers
+     */
+    public static long hung() {
+        return HUNG.get();
+    }
+
+    /**
+     * Inspect all active drivers. Failures are logged, because exception
+     * thrown by scheduled task cancels its next runs.
+     */
+    private static void inspect() {
+        try {
+            final long hangNanos =
+                    Resources.base().watchdogHang() * NANOS_IN_SECOND;
+            for (Map.Entry<Thread, Watched> entry : ACTIVE.entrySet()) {
+                try {
+                    inspect(entry.getKey(), entry.getValue(), hangNanos);
+                } catch (RuntimeException e) {
+                    LOG.log(Level.WARNING, "Driver of "
+                            + entry.getKey().getName()
+                            + " is not inspected", e);
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.log(Level.WARNING, "Drivers are not inspected", e);
+        }
+    }
+
+    /**
+     * Inspect driver and recover it when it is hung or crashed.
+     *
+     * @param owner     thread that uses driver
+     * @param watched   watched driver
+     * @param hangNanos command duration of the hung driver in nanoseconds
+     */
+    private static void inspect(final Thread owner, final Watched watched,
+                                final long hangNanos) {
+        final long started = watched.started;
+        if (started != 0) {
+            if (System.nanoTime() - started > hangNanos) {
+                HUNG.incrementAndGet();
+                recover(owner, watched, "hung in command '"
+                        + watched.command + "'");
+            }
+        } else if (!sessionAlive(watched.driver)) {
+            watched.failures++;
+            if (watched.failures >= CHECK_FAILURES) {
+                CRASHED.incrementAndGet();
+                recover(owner, watched, "crashed");
+            }
+        } else {
+            watched.failures = 0;
+        }
+    }
+
+    /**
+     * Quit unhealthy driver in separate thread, so watchdog is not blocked by
+     * hung driver, and let its owner thread fail.
+     *
+     * @param owner   thread that uses driver
+     * @param watched unhealthy driver
+     * @param reason  description of the problem
+     */
+    private static void recover(final Thread owner, final Watched watched,
+                                final String reason) {
+        ACTIVE.remove(owner, watched);
+        RECOVERED.put(watched.driver, reason);
+        LOG.warning("Driver of " + owner.getName() + " " + reason
+                + ", recovered: crashed " + CRASHED.get() + ", hung "
+                + HUNG.get());
+        final Thread quit = new Thread(() -> {
+            try {
+                watched.driver.quit();
+            } catch (WebDriverException e) {
+                LOG.log(Level.FINE, "Driver quit failed", e);
+            }
+        }, "pawl-watchdog-quit");
+        quit.setDaemon(true);
+        quit.start();
+    }
+
+    /**
+     * Request URL of the browser session from driver server. Request goes
+     * around the driver, so it does not interfere with commands of the
+     * owner thread. Session is alive when the server answers without error,
+     * or does not answer in time because it is busy.
+     *
+     * @param driver browser driver
+     * @return false if server is down or reports error of the session
+     */
+    private static boolean sessionAlive(final WebDriver driver) {
+        if (!(driver instanceof RemoteWebDriver)) {
+            return true;
+        }
+        final CommandExecutor executor =
+                ((RemoteWebDriver) driver).getCommandExecutor();
+        final SessionId session = ((RemoteWebDriver) driver).getSessionId();
+        if (!(executor instanceof HttpCommandExecutor) || session == null) {
+            return true;
+        }
+        final int timeout =
+                Resources.base().watchdogInterval() * MILLIS_IN_SECOND;
+        try {
+            final URL address =
+                    ((HttpCommandExecutor) executor).getAddressOfRemoteServer();
+            final HttpURLConnection connection = (HttpURLConnection)
+                    new URL(address.toExternalForm() + "/session/" + session
+                            + "/url").openConnection();
+            connection.setConnectTimeout(timeout);
+            connection.setReadTimeout(timeout);
+            try {
+                if (connection.getResponseCode()
+                        >= HttpURLConnection.HTTP_BAD_REQUEST) {
+                    return false;
+                }
+                return succeeded(connection.getInputStream());
+            } finally {
+                connection.disconnect();
+            }
+        } catch (SocketTimeoutException e) {
+            LOG.log(Level.FINE, "Driver server is busy", e);
+            return true;
+        } catch (IOException e) {
+            LOG.log(Level.FINE, "Session check failed", e);
+            return false;
+        }
+    }
+
+    /**
+     * Check that response body has no error status. Servers of the JSON
+     * wire protocol answer errors with HTTP 200 and non-zero status.
+     *
+     * @param body response body
+     * @return false if response has error status
+     */
+    private static boolean succeeded(final InputStream body) {
+        try (Scanner scanner = new Scanner(body,
+                StandardCharsets.UTF_8.name())) {
+            final String text = scanner.useDelimiter("\\A").next();
+            final Matcher status = STATUS.matcher(text);
+            return !status.find() || "0".equals(status.group(1));
+        } catch (NoSuchElementException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Health state of the watched driver.
+     */
+    private static final class Watched {
+        /**
+         * Watched driver.
+         */
+        private final WebDriver driver;
+        /**
+         * Start of the running command or zero when idle.
+         */
+        private volatile long started;
+        /**
+         * Name of the last command.
+         */
+        private volatile String command;
+        /**
+         * Number of consecutive failed session checks.
+         */
+        private int failures;
+
+        /**
+         * Create state.
+         *
+         * @param watchedDriver watched driver
+         */
+        private Watched(final WebDriver watchedDriver) {
+            driver = watchedDriver;
+        }
+    }
+}
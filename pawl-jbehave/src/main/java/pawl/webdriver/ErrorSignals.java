@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.webdriver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import pawl.util.Resources;
+
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Detects fatal signals of the application under test: uncaught JavaScript
+ * errors collected by injected handler, HTTP error status of the page
+ * navigation, error page selectors (<code>abort.selectors</code>) and
+ * titles (<code>abort.titles</code>). Errors raised before the handler is
+ * injected into the page are not seen.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class ErrorSignals {
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(ErrorSignals.class.getName());
+    /**
+     * Lowest HTTP error status.
+     */
+    private static final long HTTP_ERROR = 400L;
+    /**
+     * Script that injects error handler and reads signals.
+     */
+    private static final String CHECK =
+            "var w = window;"
+            + "if (!w.__pawlErrors) {"
+            + " w.__pawlErrors = [];"
+            + " w.addEventListener('error', function (e) {"
+            + "  w.__pawlErrors.push(String(e.message || e));"
+            + " });"
+            + " w.addEventListener('unhandledrejection', function (e) {"
+            + "  w.__pawlErrors.push('Unhandled rejection: ' + e.reason);"
+            + " });"
+            + "}"
+            + "var r = {errors: w.__pawlErrors.splice(0),"
+            + " title: document.title, status: 0, selector: ''};"
+            + "var p = w.performance;"
+            + "var nav = p && p.getEntriesByType"
+            + " && p.getEntriesByType('navigation')[0];"
+            + "if (nav && nav.responseStatus) {"
+            + " r.status = nav.responseStatus;"
+            + "}"
+            + "var s = arguments[0];"
+            + "for (var i = 0; i < s.length; i++) {"
+            + " if (s[i] && document.querySelector(s[i])) {"
+            + "  r.selector = s[i]; break;"
+            + " }"
+            + "}"
+            + "return r;";
+
+    /**
+     * For non-instantiability.
+     */
+    private ErrorSignals() {
+        super();
+    }
+
+    /**
+     * Inject error handler into current page and fail on fatal signals.
+     *
+     * @param driver browser driver
+     * @throws ApplicationErrorException if application shows fatal error
+     */
+    @SuppressWarnings("unchecked")
+    public static void check(final WebDriver driver) {
+        final Resources resources = Resources.base();
+        if (!resources.abortOnErrors()
+                || !(driver instanceof JavascriptExecutor)) {
+            return;
+        }
+        final Map<String, Object> signals;
+        try {
+            signals = (Map<String, Object>) ((JavascriptExecutor) driver)
+                    .executeScript(CHECK, resources.abortSelectors());
+        } catch (WebDriverException e) {
+            LOG.log(Level.FINE, "Error signals are not available", e);
+            return;
+        }
+        final List<Object> errors = (List<Object>) signals.get("errors");
+        if (resources.abortOnJsErrors() && errors != null
+                && !errors.isEmpty()) {
+            throw new ApplicationErrorException(
+                    "Uncaught JavaScript error: " + errors);
+        }
+        final Object status = signals.get("status");
+        if (resources.abortOnHttpErrors() && status instanceof Number
+                && ((Number) status).longValue() >= HTTP_ERROR) {
+            throw new ApplicationErrorException("Page responded with HTTP "
+                    + status);
+        }
+        final Object selector = signals.get("selector");
+        if (selector != null && !selector.toString().isEmpty()) {
+            throw new ApplicationErrorException("Error page element '"
+                    + selector + "' is shown");
+        }
+        final String titles = resources.abortTitles();
+        final Object title = signals.get("title");
+        if (!titles.isEmpty() && title != null
+                && Pattern.compile(titles).matcher(title.toString()).find()) {
+            throw new ApplicationErrorException("Error page title '"
+                    + title + "' is shown");
+        }
+    }
+}
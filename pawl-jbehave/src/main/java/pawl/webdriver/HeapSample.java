@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.webdriver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+
+/**
+ * Size of the JavaScript heap and number of DOM nodes of the current page.
+ * Heap size is exposed only by browsers that support
+ * <code>performance.memory</code>.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class HeapSample {
+    /**
+     * Value of the metric that is not available.
+     */
+    public static final long UNKNOWN = -1L;
+    /**
+     * Script that reads heap size and DOM node count.
+     */
+    private static final String SAMPLE =
+            "var m = window.performance && window.performance.memory;"
+            + "return {heap: m ? m.usedJSHeapSize : -1,"
+            + " nodes: document.getElementsByTagName('*').length};";
+    /**
+     * Used JavaScript heap in bytes.
+     */
+    private final long usedHeap;
+    /**
+     * Number of DOM elements.
+     */
+    private final long domNodes;
+
+    /**
+     * Create sample.
+     *
+     * @param heap  used heap in bytes
+     * @param nodes number of DOM elements
+     */
+    public HeapSample(final long heap, final long nodes) {
+        usedHeap = heap;
+        domNodes = nodes;
+    }
+
+    /**
+     * Take sample of the page opened in browser.
+     *
+     * @param driver browser driver
+     * @return heap sample
+     */
+    @SuppressWarnings("unchecked")
+    public static HeapSample take(final WebDriver driver) {
+        final Map<String, Object> result = (Map<String, Object>)
+                ((JavascriptExecutor) driver).executeScript(SAMPLE);
+        return new HeapSample(number(result.get("heap")),
+                number(result.get("nodes")));
+    }
+
+    /**
+     * Read number from script result.
+     *
+     * @param value script value
+     * @return number or unknown
+     */
+    private static long number(final Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Gets used JavaScript heap.
+     *
+     * @return used heap in bytes or unknown
+     */
+    public long getUsedHeap() {
+        return usedHeap;
+    }
+
+    /**
+     * Gets number of DOM elements.
+     *
+     * @return number of DOM elements or unknown
+     */
+    public long getDomNodes() {
+        return domNodes;
+    }
+
+    @Override
+    public String toString() {
+        return "heap=" + usedHeap + "B nodes=" + domNodes;
+    }
+}
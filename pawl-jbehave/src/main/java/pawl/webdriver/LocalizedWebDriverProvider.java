@@ -17,21 +17,48 @@
 package pawl.webdriver;
 
 import org.jbehave.web.selenium.PropertyWebDriverProvider;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxProfile;
 import org.openqa.selenium.phantomjs.PhantomJSDriver;
 import org.openqa.selenium.phantomjs.PhantomJSDriverService;
 import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import pawl.jbehave.monitor.EventKind;
+import pawl.jbehave.monitor.FlightEvents;
 import pawl.util.Resources;
 
+import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
- * Provide localization support for different browsers.
+ * Provide localization support for different browsers. When
+ * <code>webdriver.reuse</code> is enabled ended drivers are reset and kept
+ * open for the next story instead of being quit. Reset deletes cookies and
+ * clears local and session storage of the page open when the story ends.
+ * Idle drivers are quit when JVM stops. Commands of the created
+ * drivers are reported to {@link DriverCommands} listeners and driver
+ * creation is recorded as flight recorder event. Chrome drivers are throttled
+ * with the {@link ThrottlingProfile} selected for the story, reused drivers
+ * throttled by the previous story are reset. Active drivers are watched by
+ * {@link DriverWatchdog}.
  *
  * @author Mike Dolinin
- * @version 1.1 10/11/14
+ * @version 1.10 10/19/26
  */
 public class LocalizedWebDriverProvider extends PropertyWebDriverProvider {
     /**
@@ -42,6 +69,179 @@ public class LocalizedWebDriverProvider extends PropertyWebDriverProvider {
      * User country property name.
      */
     public static final String COUNTRY = "user.country";
+    /**
+     * Default logger.
+     */
+    private static final Logger LOG =
+            Logger.getLogger(LocalizedWebDriverProvider.class.getName());
+    /**
+     * Blank page to park reused drivers on.
+     */
+    private static final String BLANK_PAGE = "about:blank";
+    /**
+     * Script that clears web storage of the current page.
+     */
+    private static final String CLEAR_STORAGE = "try {"
+            + " window.localStorage.clear();"
+            + " window.sessionStorage.clear();"
+            + "} catch (e) {}";
+    /**
+     * Flag that idle drivers are quit when JVM stops.
+     */
+    private static final AtomicBoolean QUIT_ON_SHUTDOWN = new AtomicBoolean();
+    /**
+     * Drivers that are open and waiting to be reused.
+     */
+    private static final Queue<WebDriver> IDLE =
+            new ConcurrentLinkedQueue<>();
+    /**
+     * Drivers used by stories.
+     */
+    private static final Set<WebDriver> BUSY = ConcurrentHashMap.newKeySet();
+    /**
+     * Drivers with applied throttling profile.
+     */
+    private static final Set<WebDriver> THROTTLED =
+            Collections.newSetFromMap(
+                    Collections.synchronizedMap(new WeakHashMap<>()));
+
+    /**
+     * Take an idle driver if one is available, otherwise start a new one.
+     */
+    @Override
+    public void initialize() {
+        final WebDriver idle = IDLE.poll();
+        if (idle != null) {
+            delegate.set(idle);
+            BUSY.add(idle);
+            DriverWatchdog.watch(idle);
+            throttle(idle);
+            return;
+        }
+        FlightEvents.begin(EventKind.DRIVER_CREATION, browser());
+        String outcome = FlightEvents.FAILED;
+        try {
+            super.initialize();
+            outcome = FlightEvents.OK;
+        } finally {
+            FlightEvents.end(EventKind.DRIVER_CREATION, outcome);
+        }
+        BUSY.add(get());
+        DriverWatchdog.watch(get());
+        throttle(get());
+    }
+
+    /**
+     * Apply throttling profile selected for the story to Chrome driver or
+     * reset driver throttled by the previous story. Failed reset is logged
+     * and the story continues.
+     *
+     * @param driver browser driver
+     */
+    private static void throttle(final WebDriver driver) {
+        final ThrottlingProfile profile = ThrottlingProfile.selected();
+        if (profile.isNone()) {
+            if (THROTTLED.contains(driver)) {
+                reset((RemoteWebDriver) driver);
+            }
+            return;
+        }
+        if (driver instanceof ChromeDriver) {
+            profile.apply((RemoteWebDriver) driver);
+            THROTTLED.add(driver);
+        } else {
+            LOG.warning("Throttling profile '" + profile.getName()
+                    + "' is supported only by Chrome driver");
+        }
+    }
+
+    /**
+     * Remove throttling of the driver.
+     *
+     * @param driver throttled Chrome driver
+     */
+    private static void reset(final RemoteWebDriver driver) {
+        try {
+            ThrottlingProfile.NONE.apply(driver);
+            THROTTLED.remove(driver);
+        } catch (WebDriverException e) {
+            LOG.log(Level.WARNING, "Throttling of the reused driver is not"
+                    + " reset", e);
+        }
+    }
+
+    /**
+     * Park driver for reuse or quit it when reuse is not enabled. Drivers
+     * recovered by {@link DriverWatchdog} are already quit and only
+     * forgotten.
+     */
+    @Override
+    public void end() {
+        if (delegate.get() != null) {
+            BUSY.remove(delegate.get());
+        }
+        DriverWatchdog.release();
+        if (DriverWatchdog.recovered(delegate.get())) {
+            delegate.remove();
+            return;
+        }
+        if (!Resources.base().reuseDrivers()) {
+            super.end();
+            return;
+        }
+        final WebDriver driver = get();
+        delegate.remove();
+        try {
+            driver.manage().deleteAllCookies();
+            if (driver instanceof JavascriptExecutor) {
+                ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE);
+            }
+            driver.get(BLANK_PAGE);
+            if (QUIT_ON_SHUTDOWN.compareAndSet(false, true)) {
+                Runtime.getRuntime().addShutdownHook(new Thread(
+                        LocalizedWebDriverProvider::quitIdleDrivers,
+                        "pawl-quit-idle-drivers"));
+            }
+            IDLE.offer(driver);
+        } catch (WebDriverException e) {
+            LOG.log(Level.FINE, "Driver cannot be reused", e);
+            driver.quit();
+        }
+    }
+
+    /**
+     * Gets quantity of the drivers used by stories.
+     *
+     * @return busy drivers
+     */
+    public static int busyDrivers() {
+        return BUSY.size();
+    }
+
+    /**
+     * Gets quantity of the drivers waiting to be reused.
+     *
+     * @return idle drivers
+     */
+    public static int idleDrivers() {
+        return IDLE.size();
+    }
+
+    /**
+     * Quit all idle drivers. Should be called when a long living process
+     * that reuses drivers stops.
+     */
+    public static void quitIdleDrivers() {
+        WebDriver idle = IDLE.poll();
+        while (idle != null) {
+            try {
+                idle.quit();
+            } catch (WebDriverException e) {
+                LOG.log(Level.FINE, e.getMessage(), e);
+            }
+            idle = IDLE.poll();
+        }
+    }
 
     /**
      * Provide new Firefox driver with setup of user language.
@@ -51,12 +251,38 @@ public class LocalizedWebDriverProvider extends PropertyWebDriverProvider {
     protected FirefoxDriver createFirefoxDriver() {
         FirefoxProfile firefoxProfile = new FirefoxProfile();
         firefoxProfile.setPreference("intl.accept_languages",
-                getSystemLanguage());
-        FirefoxDriver firefoxDriver = new FirefoxDriver(firefoxProfile);
+                locale());
+        FirefoxDriver firefoxDriver = new FirefoxDriver(firefoxProfile) {
+            @Override
+            protected Response execute(final String driverCommand,
+                                       final Map<String, ?> parameters) {
+                return DriverCommands.execute(driverCommand,
+                        () -> super.execute(driverCommand, parameters));
+            }
+        };
         firefoxDriver.manage().window().maximize();
         return firefoxDriver;
     }
 
+    /**
+     * Provide new Chrome driver with setup of user language.
+     *
+     * @return chrome driver
+     */
+    @Override
+    protected ChromeDriver createChromeDriver() {
+        final ChromeOptions options = new ChromeOptions();
+        options.addArguments("--lang=" + locale());
+        return new ChromeDriver(options) {
+            @Override
+            protected Response execute(final String driverCommand,
+                                       final Map<String, ?> parameters) {
+                return DriverCommands.execute(driverCommand,
+                        () -> super.execute(driverCommand, parameters));
+            }
+        };
+    }
+
     /**
      * Provide new PhantomJS driver with setup of user language.
      *
@@ -73,19 +299,36 @@ public class LocalizedWebDriverProvider extends PropertyWebDriverProvider {
                         phantomArgs);
         desiredCapabilities.setCapability(
                 "phantomjs.page.customHeaders.Accept-Language",
-                getSystemLanguage());
+                locale());
         PhantomJSDriver phantomJSDriver = new PhantomJSDriver(
-                desiredCapabilities);
+                desiredCapabilities) {
+            @Override
+            protected Response execute(final String driverCommand,
+                                       final Map<String, ?> parameters) {
+                return DriverCommands.execute(driverCommand,
+                        () -> super.execute(driverCommand, parameters));
+            }
+        };
         phantomJSDriver.manage().window().maximize();
         return phantomJSDriver;
     }
 
     /**
-     * Provide system language key.
+     * Provide name of the browser selected by <code>browser</code>
+     * property.
+     *
+     * @return browser name
+     */
+    public static String browser() {
+        return System.getProperty("browser", "firefox");
+    }
+
+    /**
+     * Provide system language key, e.g. <code>en-us</code>.
      *
      * @return language key
      */
-    private String getSystemLanguage() {
+    public static String locale() {
         String language;
         if (System.getProperty(COUNTRY) == null) {
             language = System.getProperty(LANGUAGE);
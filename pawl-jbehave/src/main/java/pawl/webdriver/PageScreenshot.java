@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.webdriver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import javax.imageio.ImageIO;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Decoded screenshot of the page or of an element. Element is scrolled into
+ * view and cropped from the page screenshot, taking into account drivers
+ * that capture only the viewport and the device pixel ratio.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class PageScreenshot {
+    /**
+     * Script that scrolls element into view and returns its bounds, scroll
+     * offsets, viewport height and pixel ratio.
+     */
+    private static final String BOUNDS = "arguments[0].scrollIntoView(true);"
+            + "var r = arguments[0].getBoundingClientRect();"
+            + "return [r.left, r.top, r.width, r.height, window.pageXOffset,"
+            + " window.pageYOffset, window.innerHeight,"
+            + " window.devicePixelRatio || 1];";
+    /**
+     * Index of the element height in bounds.
+     */
+    private static final int HEIGHT = 3;
+    /**
+     * Index of the horizontal scroll offset in bounds.
+     */
+    private static final int SCROLL_X = 4;
+    /**
+     * Index of the vertical scroll offset in bounds.
+     */
+    private static final int SCROLL_Y = 5;
+    /**
+     * Index of the viewport height in bounds.
+     */
+    private static final int VIEWPORT = 6;
+    /**
+     * Index of the pixel ratio in bounds.
+     */
+    private static final int RATIO = 7;
+
+    /**
+     * For non-instantiability.
+     */
+    private PageScreenshot() {
+        super();
+    }
+
+    /**
+     * Capture screenshot of the page.
+     *
+     * @param driver browser driver
+     * @return decoded screenshot
+     */
+    public static BufferedImage capture(final WebDriver driver) {
+        final byte[] png = ((TakesScreenshot) driver)
+                .getScreenshotAs(OutputType.BYTES);
+        try {
+            return ImageIO.read(new ByteArrayInputStream(png));
+        } catch (IOException e) {
+            throw new WebDriverException("Screenshot cannot be decoded", e);
+        }
+    }
+
+    /**
+     * Capture screenshot of the element.
+     *
+     * @param driver  browser driver
+     * @param element element to capture
+     * @return decoded screenshot of the element
+     */
+    public static BufferedImage capture(final WebDriver driver,
+                                        final WebElement element) {
+        final List<?> bounds = (List<?>) ((JavascriptExecutor) driver)
+                .executeScript(BOUNDS, element);
+        final BufferedImage page = capture(driver);
+        final double ratio = number(bounds, RATIO);
+        double left = number(bounds, 0);
+        double top = number(bounds, 1);
+        if (page.getHeight() > Math.round(number(bounds, VIEWPORT) * ratio)
+                + 1) {
+            left += number(bounds, SCROLL_X);
+            top += number(bounds, SCROLL_Y);
+        }
+        final Rectangle area = new Rectangle(
+                (int) Math.round(left * ratio), (int) Math.round(top * ratio),
+                (int) Math.round(number(bounds, 2) * ratio),
+                (int) Math.round(number(bounds, HEIGHT) * ratio))
+                .intersection(new Rectangle(page.getWidth(),
+                        page.getHeight()));
+        if (area.isEmpty()) {
+            throw new WebDriverException("Element is outside of screenshot");
+        }
+        return page.getSubimage(area.x, area.y, area.width, area.height);
+    }
+
+    /**
+     * Read number from script result.
+     *
+     * @param values script result
+     * @param index  value index
+     * @return number
+     */
+    private static double number(final List<?> values, final int index) {
+        return ((Number) values.get(index)).doubleValue();
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.webdriver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load metrics of the current page read from Navigation Timing, Resource
+ * Timing and Paint Timing APIs. Metrics that browser does not expose are
+ * negative. Metrics are read by a synchronous script, so capture does not
+ * wait and does not change script timeout of the driver.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class PageTiming {
+    /**
+     * Value of the metric that is not available.
+     */
+    public static final long UNKNOWN = -1L;
+    /**
+     * Bytes in kilobyte.
+     */
+    public static final long KILOBYTE = 1024L;
+    /**
+     * Script that collects metrics. Largest contentful paint is only
+     * delivered to performance observer, so its buffered entries are taken
+     * from the observer synchronously. Transfer size is unknown when browser
+     * has no navigation entry with transfer size.
+     */
+    private static final String CAPTURE =
+            "var p = window.performance || {};"
+            + "var all = function (type) {"
+            + " return (p.getEntriesByType && p.getEntriesByType(type)) || [];"
+            + "};"
+            + "var r = {url: location.href, ttfb: -1, dcl: -1, load: -1,"
+            + " fcp: -1, lcp: -1, transfer: -1, resources: 0};"
+            + "var nav = all('navigation')[0];"
+            + "var res = all('resource');"
+            + "r.resources = res.length;"
+            + "if (nav) {"
+            + " r.ttfb = nav.responseStart;"
+            + " r.dcl = nav.domContentLoadedEventEnd;"
+            + " r.load = nav.loadEventEnd;"
+            + " if (typeof nav.transferSize === 'number') {"
+            + "  r.transfer = nav.transferSize;"
+            + "  for (var i = 0; i < res.length; i++) {"
+            + "   r.transfer += res[i].transferSize || 0;"
+            + "  }"
+            + " }"
+            + "} else if (p.timing) {"
+            + " var t = p.timing;"
+            + " r.ttfb = t.responseStart - t.navigationStart;"
+            + " r.dcl = t.domContentLoadedEventEnd - t.navigationStart;"
+            + " r.load = t.loadEventEnd - t.navigationStart;"
+            + "}"
+            + "var paint = all('paint');"
+            + "for (var j = 0; j < paint.length; j++) {"
+            + " if (paint[j].name === 'first-contentful-paint') {"
+            + "  r.fcp = paint[j].startTime;"
+            + " }"
+            + "}"
+            + "try {"
+            + " var o = new PerformanceObserver(function () {});"
+            + " o.observe({type: 'largest-contentful-paint', buffered: true});"
+            + " var e = o.takeRecords();"
+            + " o.disconnect();"
+            + " if (e.length > 0) {"
+            + "  r.lcp = e[e.length - 1].startTime;"
+            + " }"
+            + "} catch (e) {}"
+            + "return r;";
+    /**
+     * Page URL.
+     */
+    private final String url;
+    /**
+     * Time to first byte in milliseconds.
+     */
+    private final long timeToFirstByte;
+    /**
+     * DOMContentLoaded event end in milliseconds.
+     */
+    private final long domContentLoaded;
+    /**
+     * Load event end in milliseconds.
+     */
+    private final long load;
+    /**
+     * First contentful paint in milliseconds.
+     */
+    private final long firstContentfulPaint;
+    /**
+     * Largest contentful paint in milliseconds.
+     */
+    private final long largestContentfulPaint;
+    /**
+     * Transfer size of the document and its resources in bytes.
+     */
+    private final long transferSize;
+    /**
+     * Number of loaded resources.
+     */
+    private final long resources;
+
+    /**
+     * Create timing from script result.
+     *
+     * @param result capture script result
+     */
+    private PageTiming(final Map<String, Object> result) {
+        url = String.valueOf(result.get("url"));
+        timeToFirstByte = number(result, "ttfb");
+        domContentLoaded = number(result, "dcl");
+        load = number(result, "load");
+        firstContentfulPaint = number(result, "fcp");
+        largestContentfulPaint = number(result, "lcp");
+        transferSize = number(result, "transfer");
+        resources = number(result, "resources");
+    }
+
+    /**
+     * Capture metrics of the page opened in browser.
+     *
+     * @param driver browser driver
+     * @return page timing
+     */
+    @SuppressWarnings("unchecked")
+    public static PageTiming capture(final WebDriver driver) {
+        return new PageTiming((Map<String, Object>)
+                ((JavascriptExecutor) driver).executeScript(CAPTURE));
+    }
+
+    /**
+     * Read metric as milliseconds or bytes.
+     *
+     * @param result capture script result
+     * @param key    metric key
+     * @return metric value or unknown
+     */
+    private static long number(final Map<String, Object> result,
+                               final String key) {
+        final Object value = result.get(key);
+        if (!(value instanceof Number)) {
+            return UNKNOWN;
+        }
+        final long number = ((Number) value).longValue();
+        if (number < 0 || (number == 0 && !"transfer".equals(key)
+                && !"resources".equals(key))) {
+            return UNKNOWN;
+        }
+        return number;
+    }
+
+    /**
+     * Gets page URL.
+     *
+     * @return page URL
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Gets time to first byte.
+     *
+     * @return time to first byte in milliseconds
+     */
+    public long getTimeToFirstByte() {
+        return timeToFirstByte;
+    }
+
+    /**
+     * Gets end of DOMContentLoaded event.
+     *
+     * @return DOMContentLoaded time in milliseconds
+     */
+    public long getDomContentLoaded() {
+        return domContentLoaded;
+    }
+
+    /**
+     * Gets end of load event.
+     *
+     * @return load time in milliseconds
+     */
+    public long getLoad() {
+        return load;
+    }
+
+    /**
+     * Gets first contentful paint.
+     *
+     * @return first contentful paint time in milliseconds
+     */
+    public long getFirstContentfulPaint() {
+        return firstContentfulPaint;
+    }
+
+    /**
+     * Gets largest contentful paint.
+     *
+     * @return largest contentful paint time in milliseconds
+     */
+    public long getLargestContentfulPaint() {
+        return largestContentfulPaint;
+    }
+
+    /**
+     * Gets transfer size of the document and its resources.
+     *
+     * @return transfer size in bytes or unknown
+     */
+    public long getTransferSize() {
+        return transferSize;
+    }
+
+    /**
+     * Gets number of loaded resources.
+     *
+     * @return number of resources
+     */
+    public long getResources() {
+        return resources;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s ttfb=%dms dcl=%dms load=%dms"
+                        + " fcp=%dms lcp=%dms transfer=%dKB resources=%d",
+                url, timeToFirstByte, domContentLoaded, load,
+                firstContentfulPaint, largestContentfulPaint,
+                transferSize / KILOBYTE, resources);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.webdriver;
+
+import org.openqa.selenium.remote.RemoteWebDriver;
+import pawl.util.Resources;
+
+import java.util.Locale;
+
+/**
+ * Named network and CPU throttling profile. Profile is defined by
+ * <code>throttling.profile.NAME</code> property as comma separated latency
+ * in milliseconds, download and upload throughput in kilobits per second
+ * (<code>-1</code> for unlimited) and CPU slowdown rate. Profile of the
+ * stories is chosen by <code>throttling.profile</code> property or
+ * <code>throttling</code> story meta.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public final class ThrottlingProfile {
+    /**
+     * Profile without throttling.
+     */
+    public static final ThrottlingProfile NONE =
+            new ThrottlingProfile("none", 0, -1, -1, 1);
+    /**
+     * Number of values in profile definition.
+     */
+    private static final int VALUES = 4;
+    /**
+     * Index of CPU rate in profile definition.
+     */
+    private static final int CPU_RATE = 3;
+    /**
+     * Bytes per second in kilobit per second.
+     */
+    private static final int BYTES_IN_KBIT = 125;
+    /**
+     * Profile selected for the story running in current thread.
+     */
+    private static final ThreadLocal<String> SELECTED = new ThreadLocal<>();
+    /**
+     * Profile name.
+     */
+    private final String name;
+    /**
+     * Additional round trip latency in milliseconds.
+     */
+    private final long latency;
+    /**
+     * Download throughput in kilobits per second.
+     */
+    private final long download;
+    /**
+     * Upload throughput in kilobits per second.
+     */
+    private final long upload;
+    /**
+     * CPU slowdown rate.
+     */
+    private final int cpuRate;
+
+    /**
+     * Create profile.
+     *
+     * @param profileName   profile name
+     * @param latencyMillis additional latency in milliseconds
+     * @param downloadKbps  download throughput or -1 for unlimited
+     * @param uploadKbps    upload throughput or -1 for unlimited
+     * @param cpuSlowdown   CPU slowdown rate
+     */
+    private ThrottlingProfile(final String profileName,
+                              final long latencyMillis,
+                              final long downloadKbps, final long uploadKbps,
+                              final int cpuSlowdown) {
+        name = profileName;
+        latency = latencyMillis;
+        download = downloadKbps;
+        upload = uploadKbps;
+        cpuRate = cpuSlowdown;
+    }
+
+    /**
+     * Select profile for the story running in current thread.
+     *
+     * @param profileName profile name or empty to use
+     *                    <code>throttling.profile</code> property
+     */
+    public static void select(final String profileName) {
+        if (profileName == null || profileName.trim().isEmpty()) {
+            SELECTED.remove();
+        } else {
+            SELECTED.set(profileName.trim());
+        }
+    }
+
+    /**
+     * Gets profile selected for current thread.
+     *
+     * @return selected profile
+     */
+    public static ThrottlingProfile selected() {
+        String profileName = SELECTED.get();
+        if (profileName == null) {
+            profileName = Resources.base().throttlingProfile();
+        }
+        return get(profileName);
+    }
+
+    /**
+     * Gets profile by name.
+     *
+     * @param profileName profile name
+     * @return profile or {@link #NONE} for empty name
+     */
+    public static ThrottlingProfile get(final String profileName) {
+        if (profileName.isEmpty() || NONE.name.equals(profileName)) {
+            return NONE;
+        }
+        final String definition =
+                Resources.base().throttlingProfileDefinition(profileName);
+        final String[] values = definition.split(",");
+        if (values.length != VALUES) {
+            throw new IllegalArgumentException("Throttling profile '"
+                    + profileName + "' is not defined: " + definition);
+        }
+        return new ThrottlingProfile(profileName,
+                Long.parseLong(values[0].trim()),
+                Long.parseLong(values[1].trim()),
+                Long.parseLong(values[2].trim()),
+                Integer.parseInt(values[CPU_RATE].trim()));
+    }
+
+    /**
+     * Apply profile to Chrome driver through DevTools protocol.
+     *
+     * @param driver Chrome driver
+     */
+    public void apply(final RemoteWebDriver driver) {
+        ChromeDevTools.send(driver, "Network.enable", "{}");
+        ChromeDevTools.send(driver, "Network.emulateNetworkConditions",
+                String.format(Locale.ROOT, "{\"offline\": false,"
+                                + " \"latency\": %d,"
+                                + " \"downloadThroughput\": %d,"
+                                + " \"uploadThroughput\": %d}",
+                        latency, throughput(download), throughput(upload)));
+        ChromeDevTools.send(driver, "Emulation.setCPUThrottlingRate",
+                "{\"rate\": " + cpuRate + "}");
+    }
+
+    /**
+     * Convert throughput to bytes per second.
+     *
+     * @param kbps throughput in kilobits per second
+     * @return bytes per second or -1 for unlimited
+     */
+    private static long throughput(final long kbps) {
+        if (kbps < 0) {
+            return -1;
+        }
+        return kbps * BYTES_IN_KBIT;
+    }
+
+    /**
+     * Gets profile name.
+     *
+     * @return profile name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Check that profile does not throttle.
+     *
+     * @return true if profile does not throttle
+     */
+    public boolean isNone() {
+        return latency == 0 && download < 0 && upload < 0 && cpuRate == 1;
+    }
+}
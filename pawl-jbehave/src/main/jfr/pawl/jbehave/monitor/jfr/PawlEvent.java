@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base flight recorder event of pawl.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+@Category("Pawl")
+@StackTrace(false)
+public abstract class PawlEvent extends Event {
+    /**
+     * Story path, step text, wait condition or command name.
+     */
+    @Label("Subject")
+    private String subject;
+    /**
+     * Result of the event.
+     */
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * Set event subject.
+     *
+     * @param value story path, step text, condition or command name
+     */
+    public void setSubject(final String value) {
+        subject = value;
+    }
+
+    /**
+     * Set event outcome.
+     *
+     * @param value result of the event
+     */
+    public void setOutcome(final String value) {
+        outcome = value;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor.jfr;
+
+import jdk.jfr.EventType;
+import pawl.jbehave.monitor.EventKind;
+import pawl.jbehave.monitor.EventRecorder;
+import pawl.jbehave.monitor.StepStatistics;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Begins and commits flight recorder events. Each thread has at most one
+ * open event of every kind. Events are created only when their type is
+ * enabled in a running recording.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public final class Recorder implements EventRecorder {
+    /**
+     * Open events of current thread.
+     */
+    private static final ThreadLocal<Map<EventKind, PawlEvent>> OPEN =
+            ThreadLocal.withInitial(() -> new EnumMap<>(EventKind.class));
+    /**
+     * Event types by kind.
+     */
+    private final Map<EventKind, EventType> types =
+            new EnumMap<>(EventKind.class);
+
+    /**
+     * Create recorder and register event types.
+     */
+    public Recorder() {
+        super();
+        for (EventKind kind : EventKind.values()) {
+            types.put(kind, EventType.getEventType(create(kind).getClass()));
+        }
+    }
+
+    @Override
+    public void begin(final EventKind kind, final String subject) {
+        if (!types.get(kind).isEnabled()) {
+            return;
+        }
+        final PawlEvent event = create(kind);
+        event.setSubject(subject);
+        if (event instanceof StepEvent) {
+            ((StepEvent) event).setPattern(StepStatistics.pattern(subject));
+        }
+        event.begin();
+        OPEN.get().put(kind, event);
+    }
+
+    @Override
+    public void end(final EventKind kind, final String outcome) {
+        final PawlEvent event = OPEN.get().remove(kind);
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOutcome(outcome);
+            event.commit();
+        }
+    }
+
+    /**
+     * Create event of the kind.
+     *
+     * @param kind event kind
+     * @return new event
+     */
+    private static PawlEvent create(final EventKind kind) {
+        switch (kind) {
+            case STORY:
+                return new StoryEvent();
+            case STEP:
+                return new StepEvent();
+            case WAIT:
+                return new WaitEvent();
+            case MAIL_WAIT:
+                return new MailWaitEvent();
+            case DRIVER_CREATION:
+                return new DriverCreationEvent();
+            default:
+                return new DriverCommandEvent();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Execution of a step. Subject holds step text with arguments.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+@Name("pawl.Step")
+@Label("Step")
+@Description("Execution of a step.")
+public final class StepEvent extends PawlEvent {
+    /**
+     * Step text with arguments replaced.
+     */
+    @Label("Pattern")
+    private String pattern;
+
+    /**
+     * Set step pattern.
+     *
+     * @param value step text with arguments replaced
+     */
+    public void setPattern(final String value) {
+        pattern = value;
+    }
+}
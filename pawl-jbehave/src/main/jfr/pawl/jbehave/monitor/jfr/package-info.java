@@ -0,0 +1,23 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+/**
+ * Java Flight Recorder events of stories, steps, waits and browser drivers.
+ * Classes of this package are compiled by the <code>jfr</code> build profile
+ * on JDK 11 or later and loaded reflectively only when JFR is available.
+ */
+package pawl.jbehave.monitor.jfr;
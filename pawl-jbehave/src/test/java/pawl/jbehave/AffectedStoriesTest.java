@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Select stories affected by changes since their last green run.
+ *
+ * @author Alex Voloshyn
+ * @version 1.2 10/19/26
+ */
+public class AffectedStoriesTest {
+    private static final String STORY = "base.properties";
+
+    @Test
+    public void shouldSkipUnchangedStoryAndRunChangedOne() throws IOException {
+        final File file = HistoryFileTest.historyFile("affected");
+        final AffectedStories history = new AffectedStories(file);
+        assertThat(history.affected(STORY), is(true));
+        history.record(STORY,
+                Collections.singleton(RunHistory.class.getName()));
+        history.store();
+        final AffectedStories loaded = new AffectedStories(file);
+        final String text = new String(RunHistory.read(STORY),
+                StandardCharsets.UTF_8);
+        assertThat(loaded.affected(STORY), is(false));
+        assertThat(loaded.affected(STORY, text + "\n"), is(true));
+    }
+
+    @Test
+    public void shouldRunStoryWhenGivenStoryChanged() throws IOException {
+        final Path stories = Files.createTempDirectory("stories");
+        final Path given = stories.resolve("given.story");
+        final Path story = stories.resolve("main.story");
+        Files.write(given, "Scenario: Log in".getBytes(
+                StandardCharsets.UTF_8));
+        Files.write(story, "GivenStories: given.story\n\nScenario: Buy"
+                .getBytes(StandardCharsets.UTF_8));
+        final URLClassLoader loader = new URLClassLoader(
+                new URL[]{stories.toUri().toURL()}, null);
+        final File file = HistoryFileTest.historyFile("affected");
+        final AffectedStories history = new AffectedStories(file, loader);
+        history.record("main.story", Collections.<String>emptySet());
+        assertThat(history.affected("main.story"), is(false));
+        Files.write(given, "Scenario: Sign in".getBytes(
+                StandardCharsets.UTF_8));
+        assertThat(history.affected("main.story"), is(true));
+        loader.close();
+        Files.delete(story);
+        Files.delete(given);
+        Files.delete(stories);
+    }
+}
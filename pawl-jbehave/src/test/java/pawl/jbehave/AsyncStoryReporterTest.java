@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import org.jbehave.core.reporters.NullStoryReporter;
+import org.jbehave.core.reporters.StoryReporter;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+/**
+ * Write story events in the writer thread keeping their order.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public class AsyncStoryReporterTest {
+    @Test
+    public void shouldKeepOrderOfStoryEvents() throws InterruptedException {
+        final List<String> events =
+                Collections.synchronizedList(new ArrayList<>());
+        final StoryReporter reporter = AsyncStoryReporter.decorate(
+                new NullStoryReporter() {
+                    @Override
+                    public void beforeStep(final String step) {
+                        events.add(step);
+                    }
+
+                    @Override
+                    public void afterStory(final boolean givenStory) {
+                        events.add("end");
+                    }
+                });
+        final Thread story = new Thread(() -> {
+            reporter.beforeStep("one");
+            reporter.beforeStep("two");
+            reporter.afterStory(false);
+        });
+        story.start();
+        story.join();
+        AsyncStoryReporter.drain();
+        assertThat(events, contains("one", "two", "end"));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Count story runs in the flakiness history.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public class FlakinessHistoryTest {
+    private static final String STORY = "a.story";
+
+    @Test
+    public void shouldCountRunsAndPassesOnRetry() throws IOException {
+        final File file = HistoryFileTest.historyFile("flakiness");
+        final FlakinessHistory history = new FlakinessHistory(file);
+        history.record(STORY, false, true);
+        history.record(STORY, true, false);
+        history.store();
+        final FlakinessHistory loaded = new FlakinessHistory(file);
+        assertThat(loaded.runs(STORY), is(2L));
+        assertThat(loaded.flaky(STORY), is(1L));
+    }
+}
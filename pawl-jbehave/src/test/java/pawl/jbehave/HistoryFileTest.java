@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Properties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Load and store story history file.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public class HistoryFileTest {
+    private static final String STORY = "a.story";
+
+    /**
+     * Create history file that is deleted on exit.
+     *
+     * @param prefix file name prefix
+     * @return empty history file
+     * @throws IOException if file cannot be created
+     */
+    static File historyFile(final String prefix) throws IOException {
+        final File file = File.createTempFile(prefix, ".properties");
+        file.deleteOnExit();
+        return file;
+    }
+
+    @Test
+    public void shouldStoreHistoryCreatingDirectories() throws IOException {
+        final File directory = Files.createTempDirectory("history").toFile();
+        directory.deleteOnExit();
+        final File parent = new File(directory, "target");
+        parent.deleteOnExit();
+        final File file = new File(parent, "history.properties");
+        file.deleteOnExit();
+        final Properties stories = new Properties();
+        stories.setProperty(STORY, "passed");
+        HistoryFile.store(file, stories, "story=outcome");
+        assertThat(HistoryFile.load(file).getProperty(STORY), is("passed"));
+    }
+
+    @Test
+    public void shouldLoadEmptyHistoryWhenFileIsMissing() throws IOException {
+        final File file = historyFile("history");
+        assertThat(file.delete(), is(true));
+        assertThat(HistoryFile.load(file).isEmpty(), is(true));
+    }
+}
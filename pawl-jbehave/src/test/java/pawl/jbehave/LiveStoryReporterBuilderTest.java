@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import org.jbehave.core.annotations.When;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.embedder.Embedder;
+import org.jbehave.core.io.LoadFromClasspath;
+import org.jbehave.core.reporters.NullStoryReporter;
+import org.jbehave.core.reporters.StoryReporter;
+import org.jbehave.core.steps.InstanceStepsFactory;
+import org.junit.After;
+import org.junit.Test;
+import pawl.jbehave.monitor.StepStatistics;
+import pawl.jbehave.monitor.StepTimingReporter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Instrumentation reporters observe steps live when stories run in several
+ * threads.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public class LiveStoryReporterBuilderTest {
+    @After
+    public void clearProperties() {
+        System.clearProperty("step.deadlines");
+    }
+
+    @Test
+    public void shouldCaptureTimingsAndDeadlinesLiveWithThreads() {
+        System.setProperty("step.deadlines", "I wait past the deadline=1");
+        final List<Throwable> failures = new CopyOnWriteArrayList<>();
+        final StoryReporter failuresReporter = new NullStoryReporter() {
+            @Override
+            public void failed(final String step, final Throwable cause) {
+                Throwable failure = cause;
+                while (failure != null) {
+                    failures.add(failure);
+                    failure = failure.getCause();
+                }
+            }
+        };
+        final Configuration configuration = new MostUsefulConfiguration()
+                .useStoryLoader(new LoadFromClasspath(getClass()))
+                .useStoryReporterBuilder(new LiveStoryReporterBuilder(
+                        Arrays.asList(new StepDeadlines(),
+                                new StepTimingReporter(),
+                                failuresReporter)));
+        final Embedder embedder = new Embedder();
+        embedder.useConfiguration(configuration);
+        embedder.useStepsFactory(
+                new InstanceStepsFactory(configuration, new SlowSteps()));
+        embedder.embedderControls().useThreads(2)
+                .doIgnoreFailureInStories(true)
+                .doGenerateViewAfterStories(false);
+        final long start = System.nanoTime();
+        embedder.runStoriesAsPaths(Arrays.asList(
+                "pawl/jbehave/live_timing.story",
+                "pawl/jbehave/live_deadline.story"));
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start),
+                lessThan(SlowSteps.PAST_DEADLINE_SECONDS));
+        assertThat(failures, hasItem(instanceOf(StepDeadlineException.class)));
+        assertThat(StepStatistics.histogram("When I wait 300 milliseconds")
+                .max(), greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toMicros(
+                SlowSteps.TIMING_MILLIS)));
+    }
+
+    /**
+     * Steps that take their time.
+     */
+    public static final class SlowSteps {
+        /**
+         * Seconds the step past its deadline would wait if not interrupted.
+         */
+        static final long PAST_DEADLINE_SECONDS = 10L;
+        /**
+         * Lower bound of the timing of the waiting step.
+         */
+        static final long TIMING_MILLIS = 250L;
+
+        /**
+         * Wait.
+         *
+         * @param millis time to wait in milliseconds
+         * @throws InterruptedException if thread is interrupted
+         */
+        @When("I wait $millis milliseconds")
+        public void waitFor(final long millis) throws InterruptedException {
+            Thread.sleep(millis);
+        }
+
+        /**
+         * Wait longer than the step deadline.
+         */
+        @When("I wait past the deadline")
+        public void waitPastDeadline() {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(PAST_DEADLINE_SECONDS));
+            } catch (InterruptedException e) {
+                StepDeadlines.check(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Order stories by the run history.
+ *
+ * @author Alex Voloshyn
+ * @version 1.2 10/19/26
+ */
+public class RunHistoryTest {
+    private static final String GREEN = "base-default.properties";
+    private static final String FAILED = "base.properties";
+    private static final String NEW = "missing.story";
+
+    @Test
+    public void shouldRunFailedThenChangedThenRest() throws IOException {
+        final File file = HistoryFileTest.historyFile("run-history");
+        final RunHistory history = new RunHistory(file);
+        history.record(GREEN, false);
+        history.record(FAILED, true);
+        history.store();
+        final RunHistory loaded = new RunHistory(file);
+        assertThat(loaded.order(Arrays.asList(GREEN, NEW, FAILED)),
+                contains(FAILED, NEW, GREEN));
+        assertThat(loaded.changed(GREEN), is(false));
+    }
+
+    @Test
+    public void shouldKeepDurationOfLastRunWhenUnknown() throws IOException {
+        final File file = HistoryFileTest.historyFile("run-history");
+        final RunHistory history = new RunHistory(file);
+        history.record(GREEN, false, 1500);
+        history.record(GREEN, true);
+        history.store();
+        final RunHistory loaded = new RunHistory(file);
+        assertThat(loaded.duration(GREEN), is(1500L));
+        assertThat(loaded.duration(NEW), is(0L));
+        assertThat(loaded.failedLastTime(GREEN), is(true));
+        assertThat(loaded.changed(GREEN), is(false));
+    }
+}
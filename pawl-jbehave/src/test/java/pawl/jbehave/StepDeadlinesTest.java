@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Resolve step deadlines from properties and story meta.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public class StepDeadlinesTest {
+    @After
+    public void clearProperties() {
+        System.clearProperty("step.deadlines");
+    }
+
+    @Test
+    public void shouldUseDeadlineOfMatchingPattern() {
+        System.setProperty("step.deadlines",
+                "I open the link=30;I click '$identity'=10");
+        assertThat(StepDeadlines.deadline("When I click 'login'", "5"),
+                is(equalTo(10000L)));
+    }
+
+    @Test
+    public void shouldFallBackToStoryMeta() {
+        System.setProperty("step.deadlines", "I open the link=30");
+        assertThat(StepDeadlines.deadline("When I click 'login'", "5"),
+                is(equalTo(5000L)));
+    }
+
+    @Test
+    public void shouldForgetDeadlineOfIgnorableStep()
+            throws InterruptedException {
+        System.setProperty("step.deadlines", "I click '$identity'=1");
+        final StepDeadlines deadlines = new StepDeadlines();
+        deadlines.beforeStep("When I click 'login'");
+        deadlines.ignorable("When I click 'login'");
+        Thread.sleep(TimeUnit.SECONDS.toMillis(2));
+        StepDeadlines.check(null);
+        assertThat(Thread.currentThread().isInterrupted(), is(false));
+    }
+
+    @Test
+    public void shouldHaveNoDeadlineByDefault() {
+        assertThat(StepDeadlines.deadline("When I click 'login'", null),
+                is(equalTo(0L)));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.jbehave;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Split stories marked with parallel meta.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public class StorySplitterTest {
+    private static final String STORY = "Meta:\n@parallel\n\n"
+            + "Scenario: one\nGiven a\n\n"
+            + "Scenario: two <n>\nWhen b <n>\nExamples:\n|n|\n|1|\n|2|\n";
+
+    @Test
+    public void shouldSplitScenariosAndExampleRows() {
+        final List<String> parts = StorySplitter.splitText(STORY);
+        assertThat(parts.size(), is(equalTo(3)));
+        assertThat(parts.get(0), containsString("Scenario: one"));
+        assertThat(parts.get(0), not(containsString("Scenario: two")));
+        assertThat(parts.get(1), containsString("|n|\n|1|"));
+        assertThat(parts.get(1), not(containsString("|2|")));
+        assertThat(parts.get(2), containsString("|n|\n|2|"));
+    }
+
+    @Test
+    public void shouldKeepPreambleInEachPart() {
+        for (String part : StorySplitter.splitText(STORY)) {
+            assertThat(part, containsString("Meta:\n@parallel"));
+        }
+    }
+}
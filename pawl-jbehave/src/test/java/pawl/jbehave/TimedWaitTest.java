@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package pawl.jbehave;
+
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import pawl.webdriver.ApplicationErrorException;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.fail;
+
+/**
+ * Waits fail early on application error signals.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public class TimedWaitTest {
+    @After
+    public void clearProperties() {
+        System.clearProperty("abort.on.errors");
+        System.clearProperty("abort.titles");
+    }
+
+    @Test
+    public void shouldFailWaitForMissingElementOnErrorTitle() {
+        System.setProperty("abort.on.errors", "true");
+        System.setProperty("abort.titles", "Internal Server Error");
+        final long start = System.nanoTime();
+        try {
+            new TimedWait(errorPage(), 60).until(ExpectedConditions
+                    .visibilityOfElementLocated(By.id("missing")));
+            fail("Wait should fail on error page");
+        } catch (ApplicationErrorException e) {
+            assertThat(e.getMessage(), containsString("Internal Server Error"));
+        }
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start),
+                lessThan(5L));
+    }
+
+    /**
+     * Create driver of the error page without any elements.
+     *
+     * @return browser driver
+     */
+    private static WebDriver errorPage() {
+        final Map<String, Object> signals = new HashMap<>();
+        signals.put("errors", Collections.emptyList());
+        signals.put("title", "500 Internal Server Error");
+        signals.put("status", 0L);
+        signals.put("selector", "");
+        return (WebDriver) Proxy.newProxyInstance(
+                TimedWaitTest.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+                (Object proxy, Method method, Object[] args) -> {
+                    switch (method.getName()) {
+                        case "findElement":
+                            throw new NoSuchElementException(
+                                    String.valueOf(args[0]));
+                        case "executeScript":
+                            return signals;
+                        case "toString":
+                            return "error page driver";
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.embedder;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Resume run from the checkpoint journal.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public class RunJournalTest {
+    @Test
+    public void shouldSkipJournaledStoriesOnResume() throws IOException {
+        final File file = File.createTempFile("checkpoint", ".journal");
+        file.deleteOnExit();
+        try (RunJournal journal = new RunJournal(file, false)) {
+            journal.append(new StoryOutcome("a.story", null, 10));
+            journal.append(new StoryOutcome("b.story", "boom", 20));
+        }
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write("PASSED\tc.st".getBytes(StandardCharsets.UTF_8));
+        }
+        try (RunJournal journal = new RunJournal(file, true)) {
+            assertThat(journal.finished(), hasSize(2));
+            assertThat(journal.finished().get(1).isPassed(), is(false));
+            assertThat(journal.remaining(
+                    Arrays.asList("a.story", "b.story", "c.story")),
+                    contains("c.story"));
+        }
+    }
+
+    @Test
+    public void shouldKeepStoryPathsWithSpaces() throws IOException {
+        final File file = File.createTempFile("checkpoint", ".journal");
+        file.deleteOnExit();
+        try (RunJournal journal = new RunJournal(file, false)) {
+            journal.append(new StoryOutcome("my stories/a b.story",
+                    "failed at step 2", 30));
+        }
+        try (RunJournal journal = new RunJournal(file, true)) {
+            assertThat(journal.finished().get(0).getPath(),
+                    is("my stories/a b.story"));
+            assertThat(journal.finished().get(0).getFailure(),
+                    is("failed at step 2"));
+            assertThat(journal.remaining(
+                    Arrays.asList("my stories/a b.story")), hasSize(0));
+        }
+    }
+
+    @Test
+    public void shouldStartNewJournalWithoutResume() throws IOException {
+        final File file = File.createTempFile("checkpoint", ".journal");
+        file.deleteOnExit();
+        try (RunJournal journal = new RunJournal(file, false)) {
+            journal.append(new StoryOutcome("a.story", null, 10));
+        }
+        try (RunJournal journal = new RunJournal(file, false)) {
+            assertThat(journal.finished(), hasSize(0));
+        }
+        try (RunJournal journal = new RunJournal(file, true)) {
+            assertThat(journal.finished(), hasSize(0));
+        }
+    }
+}
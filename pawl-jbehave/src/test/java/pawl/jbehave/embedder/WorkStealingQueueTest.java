@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.jbehave.embedder;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Work queue with a deque per worker.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public class WorkStealingQueueTest {
+    @Test
+    public void shouldTakeOwnItemsFirst() {
+        final WorkStealingQueue<String> queue = new WorkStealingQueue<>(2,
+                Arrays.asList("a", "b", "c", "d"));
+        assertThat(queue.next(0), is(equalTo("a")));
+        assertThat(queue.next(1), is(equalTo("b")));
+        assertThat(queue.next(0), is(equalTo("c")));
+    }
+
+    @Test
+    public void shouldStealFromTailOfLongestDeque() {
+        final WorkStealingQueue<String> queue = new WorkStealingQueue<>(2,
+                Arrays.asList("a", "b", "c", "d", "e"));
+        assertThat(queue.next(1), is(equalTo("b")));
+        assertThat(queue.next(1), is(equalTo("d")));
+        assertThat(queue.next(1), is(equalTo("e")));
+        assertThat(queue.next(1), is(equalTo("c")));
+        assertThat(queue.next(0), is(equalTo("a")));
+        assertThat(queue.next(0), is(nullValue()));
+        assertThat(queue.isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldRequeueItemsOfExitedWorker() {
+        final WorkStealingQueue<String> queue = new WorkStealingQueue<>(3,
+                Arrays.asList("a", "b", "c", "d", "e", "f"));
+        queue.requeue(1);
+        assertThat(queue.next(2), is(equalTo("c")));
+        assertThat(queue.next(2), is(equalTo("f")));
+        assertThat(queue.next(2), is(equalTo("b")));
+        assertThat(queue.next(0), is(equalTo("a")));
+        assertThat(queue.next(0), is(equalTo("d")));
+        assertThat(queue.next(0), is(equalTo("e")));
+        assertThat(queue.next(0), is(nullValue()));
+    }
+}
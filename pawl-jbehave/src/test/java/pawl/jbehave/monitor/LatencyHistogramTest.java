@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Latency histogram with log-linear buckets.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public class LatencyHistogramTest {
+    @Test
+    public void shouldCalculatePercentilesWithSmallError() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        assertThat(histogram.count(), is(equalTo(1000L)));
+        assertThat((double) histogram.percentile(50), closeTo(500000, 20000));
+        assertThat((double) histogram.percentile(95), closeTo(950000, 38000));
+        assertThat((double) histogram.percentile(99), closeTo(990000, 40000));
+        assertThat(histogram.max(), is(equalTo(1000000L)));
+        assertThat(histogram.mean(), is(equalTo(500500L)));
+    }
+
+    @Test
+    public void shouldMergeSavedHistogram() {
+        final LatencyHistogram first = new LatencyHistogram();
+        final LatencyHistogram second = new LatencyHistogram();
+        for (int i = 1; i <= 500; i++) {
+            first.record(TimeUnit.MILLISECONDS.toNanos(i));
+            second.record(TimeUnit.MILLISECONDS.toNanos(i + 500));
+        }
+        first.merge(second.save());
+        assertThat(first.count(), is(equalTo(1000L)));
+        assertThat((double) first.percentile(50), closeTo(500000, 20000));
+        assertThat(first.max(), is(equalTo(1000000L)));
+        assertThat(first.mean(), is(equalTo(500500L)));
+    }
+
+    @Test
+    public void shouldKeepBucketsOrdered() {
+        int previous = -1;
+        for (long micros = 0; micros < 1 << 20; micros += 7) {
+            final int index = LatencyHistogram.index(micros);
+            assertThat(index >= previous, is(true));
+            assertThat(LatencyHistogram.lowest(index) <= micros, is(true));
+            previous = index;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.jbehave.monitor;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Progress of the current run.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public class RunProgressTest {
+    private static Map<String, Long> plan(final long... durations) {
+        final Map<String, Long> expected = new LinkedHashMap<>();
+        for (int i = 0; i < durations.length; i++) {
+            expected.put("story" + i, durations[i]);
+        }
+        return expected;
+    }
+
+    @Test
+    public void shouldEstimateQueuedAndActiveStoriesPerSlot() {
+        RunProgress.plan(plan(60000, 20000, 40000), 2);
+        RunProgress.started("thread-1", "story0");
+        RunProgress.step("thread-1", "When I open 'page'");
+        final long eta = RunProgress.eta();
+        assertThat(eta, is(lessThanOrEqualTo(60000L)));
+        assertThat(eta, is(greaterThan(59000L)));
+        assertThat(RunProgress.json(), containsString("\"queued\": 2"));
+        assertThat(RunProgress.json(),
+                containsString("\"step\": \"When I open 'page'\""));
+    }
+
+    @Test
+    public void shouldCountFinishedAndFailedStories() {
+        RunProgress.plan(plan(1000, 1000), 1);
+        RunProgress.started("thread-1", "story0");
+        RunProgress.failed("thread-1");
+        RunProgress.finished("thread-1");
+        RunProgress.started("thread-1", "story1");
+        RunProgress.finished("thread-1");
+        assertThat(RunProgress.eta(), is(equalTo(0L)));
+        assertThat(RunProgress.json(), containsString(
+                "\"queued\": 0, \"finished\": 2, \"failed\": 1"));
+    }
+
+    @Test
+    public void shouldNotEstimateWithoutKnownDurations() {
+        RunProgress.plan(plan(0, 0), 1);
+        assertThat(RunProgress.eta(), is(equalTo(RunProgress.UNKNOWN)));
+        assertThat(RunProgress.json(), containsString("\"eta_ms\": null"));
+    }
+}
@@ -20,10 +20,14 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import pawl.jbehave.Pages;
+import pawl.webdriver.DomSnapshot;
 import pawl.webdriver.LocalizedWebDriverProvider;
 
 import java.net.URL;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+
 /**
  * Steps in browser verification.
  *
@@ -69,6 +73,41 @@ public class BrowserStepsIT {
         browserSteps.verifyElementText("user", "Johny");
     }
 
+    @Test
+    public void shouldRestoreSavedBrowserSession() {
+        BrowserSteps browserSteps = new BrowserSteps(pages);
+        browserSteps.setupLink("cookies_test_page");
+        browserSteps.openUrl();
+        browserSteps.click("start-new-session");
+        browserSteps.verifyElementText("session-status", "Your session is xZ9TPyIvNgxP");
+        browserSteps.saveBrowserSession("started");
+        browserSteps.expireUserSession();
+        browserSteps.verifyElementText("session-status", "Your session is expired!");
+        browserSteps.restoreBrowserSession("started");
+        browserSteps.verifyElementText("session-status", "Your session is xZ9TPyIvNgxP");
+    }
+
+    @Test
+    public void shouldLoadStaticPageWithinBudget() {
+        BrowserSteps browserSteps = new BrowserSteps(pages);
+        browserSteps.setupLink("cookies_test_page");
+        browserSteps.openUrl();
+        browserSteps.verifyPageLoadTime(60000);
+        browserSteps.verifyPageTransferSize(1024);
+    }
+
+    @Test
+    public void shouldCaptureDomSnapshotWithFieldValues() {
+        BrowserSteps browserSteps = new BrowserSteps(pages);
+        browserSteps.setupLink("cookies_test_page");
+        browserSteps.openUrl();
+        browserSteps.fill("user-name", "Johny");
+        DomSnapshot snapshot = DomSnapshot.capture(driverProvider.get(),
+                64 * 1024, true);
+        assertThat(snapshot.getHtml(), containsString("value=\"Johny\""));
+        assertThat(snapshot.getUrl(), containsString("demo.html"));
+    }
+
     @After
     public void stopDriver() throws Exception {
         driverProvider.end();
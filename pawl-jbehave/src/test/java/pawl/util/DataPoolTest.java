@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pawl.util;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Pool of pre-provisioned test data.
+ *
+ * @author Alex Voloshyn
+ * @version 1.0 10/19/26
+ */
+public class DataPoolTest {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private Map<String, String> provision() {
+        return Collections.singletonMap("email",
+                "user" + counter.incrementAndGet() + "@example.com");
+    }
+
+    @Test
+    public void shouldProvisionOnCallerThreadWhenPoolIsEmpty() {
+        final DataPool pool = DataPool.register("empty", this::provision, 0);
+        assertThat(pool.lease().get("email"), is(equalTo("user1@example.com")));
+        assertThat(pool.available(), is(equalTo(0)));
+    }
+
+    @Test
+    public void shouldLeaseReturnedEntityAgain() {
+        final DataPool pool = DataPool.register("reuse", this::provision, 0);
+        final Map<String, String> entity = pool.lease();
+        pool.giveBack(entity);
+        assertThat(pool.lease(), is(sameInstance(entity)));
+    }
+
+    @Test
+    public void shouldNotLeaseBurnedEntityAgain() {
+        final DataPool pool = DataPool.register("burn", this::provision, 0);
+        final Map<String, String> entity = pool.lease();
+        pool.burn(entity);
+        assertThat(pool.lease().get("email"), is(equalTo("user2@example.com")));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Geeoz Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package pawl.util;
+
+import org.junit.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Screenshot comparison by tiles.
+ *
+ * @author Alex Voloshyn
+ * @version 1.1 10/19/26
+ */
+public class TiledImageComparisonTest {
+    private final TiledImageComparison comparison =
+            new TiledImageComparison(32, 16);
+
+    private BufferedImage page() {
+        final BufferedImage image =
+                new BufferedImage(128, 96, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, 128, 96);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(8, 8, 40, 20);
+        graphics.dispose();
+        return image;
+    }
+
+    @Test
+    public void shouldSkipAllTilesOfIdenticalImages() {
+        final ImageDiff diff = comparison.compare(page(), page());
+        assertThat(diff.getDifferingPixels(), is(equalTo(0L)));
+        assertThat(diff.getDiffedTiles(), is(equalTo(0)));
+        assertThat(diff.getSkippedTiles(), is(equalTo(12)));
+    }
+
+    @Test
+    public void shouldIgnoreChannelDeltaBelowThreshold() {
+        final BufferedImage actual = page();
+        actual.setRGB(100, 70, 0xF8F8F8);
+        final ImageDiff diff = comparison.compare(page(), actual);
+        assertThat(diff.getDifferingPixels(), is(equalTo(0L)));
+    }
+
+    @Test
+    public void shouldDiffOnlyChangedTiles() {
+        final BufferedImage actual = page();
+        final Graphics2D graphics = actual.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(100, 70, 4, 4);
+        graphics.dispose();
+        final ImageDiff diff = comparison.compare(page(), actual);
+        assertThat(diff.getDifferingPixels(), is(equalTo(16L)));
+        assertThat(diff.getDiffedTiles(), is(equalTo(1)));
+        assertThat(diff.getImage().getRGB(101, 71), is(equalTo(0xFFFF0000)));
+    }
+
+    @Test
+    public void shouldDiffTextSizedChange() {
+        final BufferedImage actual = page();
+        actual.setRGB(100, 70, 0x808080);
+        actual.setRGB(104, 70, 0x808080);
+        final ImageDiff diff = comparison.compare(page(), actual);
+        assertThat(diff.getDifferingPixels(), is(equalTo(2L)));
+        assertThat(diff.getDiffedTiles(), is(equalTo(1)));
+    }
+
+    @Test
+    public void shouldTreatSizeMismatchAsDifferent() {
+        final ImageDiff diff = comparison.compare(page(),
+                new BufferedImage(128, 64, BufferedImage.TYPE_INT_RGB));
+        assertThat(diff.getDifferingPercent(), is(greaterThan(99.0)));
+    }
+}